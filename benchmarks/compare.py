@@ -0,0 +1,94 @@
+#!/usr/bin/env python3
+"""Compares two JMH JSON result files and exits non-zero when a benchmark regressed.
+
+Usage: compare.py BASELINE CURRENT [--threshold PERCENT]
+
+A benchmark regresses when its score moves in the slower direction by more than the
+threshold and the change is larger than the combined error of both runs. Allocation per
+operation (gc.alloc.rate.norm, from -prof gc) is reported alongside.
+"""
+import argparse
+import json
+import math
+import sys
+
+ALLOC = "gc.alloc.rate.norm"
+
+
+def load(path):
+    with open(path) as f:
+        results = json.load(f)
+    by_key = {}
+    for result in results:
+        params = ",".join(f"{k}={v}" for k, v in sorted((result.get("params") or {}).items()))
+        key = result["benchmark"].rsplit(".", 2)[-2] + "." + result["benchmark"].rsplit(".", 1)[-1]
+        if params:
+            key += f" [{params}]"
+        primary = result["primaryMetric"]
+        alloc = (result.get("secondaryMetrics") or {}).get(ALLOC, {}).get("score")
+        by_key[key] = {
+            "mode": result["mode"],
+            "score": primary["score"],
+            "error": error(primary.get("scoreError")),
+            "unit": primary["scoreUnit"],
+            "alloc": alloc,
+        }
+    return by_key
+
+
+def error(value):
+    # Single-iteration runs report the error as the string "NaN"
+    try:
+        value = float(value)
+    except (TypeError, ValueError):
+        return 0.0
+    return 0.0 if math.isnan(value) else value
+
+
+def slower(mode, baseline, current):
+    # Throughput modes are better when higher, time modes when lower
+    return current < baseline if mode == "thrpt" else current > baseline
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("baseline")
+    parser.add_argument("current")
+    parser.add_argument("--threshold", type=float, default=10.0, help="allowed slowdown in percent")
+    args = parser.parse_args()
+
+    baseline = load(args.baseline)
+    current = load(args.current)
+
+    regressions = []
+    print(f"{'benchmark':<70} {'baseline':>12} {'current':>12} {'change':>8} {'alloc B/op':>22}")
+    for key in sorted(current):
+        now = current[key]
+        before = baseline.get(key)
+        alloc = "-" if now["alloc"] is None else f"{now['alloc']:.0f}"
+        if before is None:
+            print(f"{key:<70} {'-':>12} {now['score']:>12.3f} {'new':>8} {alloc:>22}")
+            continue
+
+        change = (now["score"] - before["score"]) / before["score"] * 100 if before["score"] else 0.0
+        if before["alloc"] is not None and now["alloc"] is not None:
+            alloc = f"{before['alloc']:.0f} -> {now['alloc']:.0f}"
+        flag = ""
+        beyond_noise = abs(now["score"] - before["score"]) > before["error"] + now["error"]
+        if slower(now["mode"], before["score"], now["score"]) and abs(change) > args.threshold and beyond_noise:
+            flag = "  REGRESSION"
+            regressions.append(key)
+        print(f"{key:<70} {before['score']:>12.3f} {now['score']:>12.3f} {change:>+7.1f}% {alloc:>22}{flag}"
+              f"  ({now['unit']})")
+
+    for key in sorted(set(baseline) - set(current)):
+        print(f"{key:<70} missing from current run")
+
+    if regressions:
+        print(f"\n{len(regressions)} benchmark(s) regressed by more than {args.threshold:.0f}%")
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
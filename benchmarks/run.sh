@@ -0,0 +1,21 @@
+#!/usr/bin/env bash
+# Builds the application and the benchmarks, runs JMH with the GC profiler and compares against the baseline.
+#   ./run.sh                  run everything and compare with baseline.json if it exists
+#   ./run.sh Jwt              only benchmarks whose name matches the regex
+#   SAVE_BASELINE=1 ./run.sh  store this run as the new baseline.json
+set -euo pipefail
+cd "$(dirname "$0")"
+
+mvn -B -q -f ../pom.xml -Pbenchmarks install -DskipTests
+mvn -B -q package
+
+java -jar target/benchmarks.jar -prof gc -rf json -rff results.json "$@"
+
+if [[ "${SAVE_BASELINE:-0}" == "1" ]]; then
+    cp results.json baseline.json
+    echo "Saved results.json as baseline.json"
+elif [[ -f baseline.json ]]; then
+    python3 compare.py baseline.json results.json
+else
+    echo "No baseline.json yet; rerun with SAVE_BASELINE=1 on the reference commit to create one"
+fi
@@ -0,0 +1,70 @@
+package com.example.garbageapp.benchmarks;
+
+import com.example.garbageapp.dto.ApiResponse;
+import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.dto.SpecialRequestDTO;
+import com.example.garbageapp.model.SpecialRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Serializes a listing response the way the HTTP message converter does, with Boot's default mapper settings
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PagedResponse<SpecialRequestDTO>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<SpecialRequestDTO> content = Fixtures.requests(pageSize, 10).stream()
+                .map(ApiResponseSerializationBenchmark::toDTO)
+                .collect(Collectors.toList());
+        PagedResponse<SpecialRequestDTO> page =
+                new PagedResponse<>(content, 0, pageSize, pageSize * 10L, 10, false);
+        response = ApiResponse.success(page, "Special requests retrieved successfully");
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private static SpecialRequestDTO toDTO(SpecialRequest request) {
+        SpecialRequestDTO requestDTO = new SpecialRequestDTO();
+        requestDTO.setId(request.getId());
+        requestDTO.setUserId(request.getUserId());
+        requestDTO.setAreaId(request.getAreaId());
+        requestDTO.setRequestDate(request.getRequestDate());
+        requestDTO.setStatus(request.getStatus());
+        requestDTO.setDescription(request.getDescription());
+        requestDTO.setAreaName(request.getAreaName());
+        requestDTO.setUserName("Resident");
+        return requestDTO;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.garbageapp.benchmarks;
+
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Role;
+import com.example.garbageapp.model.Schedule;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.model.User;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Sample documents and dependency-free service instances shared by the benchmarks
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Area area() {
+        Area area = new Area();
+        area.setId("65f000000000000000000001");
+        area.setName("Kinindo");
+        area.setZone("South");
+        area.setPickupDays(List.of("MONDAY", "WEDNESDAY", "FRIDAY"));
+        area.setCreatedAt(LocalDateTime.of(2024, 1, 1, 8, 0));
+        return area;
+    }
+
+    static User user(int i) {
+        User user = new User();
+        user.setId(String.format("65f1%020d", i));
+        user.setFullName("Resident " + i);
+        user.setEmail("resident" + i + "@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5Q8b1vEoFh2dYJ2G3pYdWc2");
+        user.setPhoneNumber("+25779" + String.format("%06d", i));
+        user.setRoles(Set.of(Role.ROLE_USER, Role.ROLE_ADMIN));
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 1, 8, 0));
+        return user;
+    }
+
+    static Schedule schedule(int i) {
+        Schedule schedule = new Schedule();
+        schedule.setId(String.format("65f2%020d", i));
+        schedule.setAreaId(area().getId());
+        schedule.setAreaName(area().getName());
+        schedule.setZone(area().getZone());
+        schedule.setPickupDate(LocalDateTime.of(2030, 1, 1, 8, 0).plusDays(i));
+        schedule.setType(Schedule.ScheduleType.REGULAR);
+        schedule.setNotes("Bring bins to the curb by 7am");
+        return schedule;
+    }
+
+    static SpecialRequest request(int i, int distinctUsers) {
+        SpecialRequest request = new SpecialRequest();
+        request.setId(String.format("65f3%020d", i));
+        request.setUserId(user(i % distinctUsers).getId());
+        request.setAreaId(area().getId());
+        request.setAreaName(area().getName());
+        request.setZone(area().getZone());
+        request.setRequestDate(LocalDate.of(2030, 1, 1).plusDays(i));
+        request.setStatus(SpecialRequest.RequestStatus.PENDING);
+        request.setDescription("Bulky furniture pickup, two sofas and a mattress");
+        return request;
+    }
+
+    static List<SpecialRequest> requests(int count, int distinctUsers) {
+        List<SpecialRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(request(i, distinctUsers));
+        }
+        return requests;
+    }
+
+    // Answers every call to the given method with the result; any other call fails loudly
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, String method, Object result) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, invoked, args) -> {
+            if (invoked.getName().equals(method)) {
+                return result;
+            }
+            throw new UnsupportedOperationException(invoked.getName() + " is not stubbed");
+        });
+    }
+
+    // Builds a service through its constructor, passing the matching dependencies and null for the rest
+    static <T> T instantiate(Class<T> type, Object... dependencies) throws ReflectiveOperationException {
+        Constructor<?> constructor = type.getConstructors()[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            for (Object dependency : dependencies) {
+                if (parameterTypes[i].isInstance(dependency)) {
+                    args[i] = dependency;
+                }
+            }
+        }
+        return type.cast(constructor.newInstance(args));
+    }
+}
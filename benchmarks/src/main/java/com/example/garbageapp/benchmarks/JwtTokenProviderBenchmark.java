@@ -0,0 +1,80 @@
+package com.example.garbageapp.benchmarks;
+
+import com.example.garbageapp.config.JwtProperties;
+import com.example.garbageapp.config.SecurityCacheProperties;
+import com.example.garbageapp.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification. validateTokenCached is the steady-state request path,
+ * prebuiltParser is what a verification cache miss costs, and perCallParser is the
+ * original implementation that built a parser and key for every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "yourSecretKeyHereShouldBeLongAndSecureInProductionEnvironment";
+
+    private JwtTokenProvider provider;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpirationMs(86400000);
+        properties.setRefreshExpirationMs(604800000);
+
+        provider = new JwtTokenProvider(properties, new SecurityCacheProperties());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey()).build();
+        token = provider.generateToken("resident@example.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken("resident@example.com");
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public Jws<Claims> validateTokenPrebuiltParser() {
+        return parser.parseClaimsJws(token);
+    }
+
+    @Benchmark
+    public Jws<Claims> validateTokenPerCallParser() {
+        return Jwts.parserBuilder().setSigningKey(signingKey()).build().parseClaimsJws(token);
+    }
+
+    private static Key signingKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
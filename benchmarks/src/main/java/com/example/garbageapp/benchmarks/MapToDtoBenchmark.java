@@ -0,0 +1,113 @@
+package com.example.garbageapp.benchmarks;
+
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Schedule;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.model.User;
+import com.example.garbageapp.repository.UserRepository;
+import com.example.garbageapp.service.AreaService;
+import com.example.garbageapp.service.ScheduleService;
+import com.example.garbageapp.service.SpecialRequestService;
+import com.example.garbageapp.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The private entity-to-DTO mappers of each service, reached through private lookups.
+ * Special requests are mapped a page at a time with an in-memory user repository, so the
+ * numbers cover the mapping and batching work but not the Mongo round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapToDtoBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private AreaService areaService;
+    private ScheduleService scheduleService;
+    private UserService userService;
+    private SpecialRequestService specialRequestService;
+
+    private MethodHandle areaMapper;
+    private MethodHandle scheduleMapper;
+    private MethodHandle userMapper;
+    private MethodHandle requestsMapper;
+
+    private Area area;
+    private Schedule schedule;
+    private User user;
+    private List<SpecialRequest> requests;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        int distinctUsers = Math.max(1, pageSize / 4);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < distinctUsers; i++) {
+            users.add(Fixtures.user(i));
+        }
+        UserRepository userRepository = Fixtures.stub(UserRepository.class, "findAllById", users);
+
+        areaService = Fixtures.instantiate(AreaService.class);
+        scheduleService = Fixtures.instantiate(ScheduleService.class);
+        userService = Fixtures.instantiate(UserService.class);
+        specialRequestService = Fixtures.instantiate(SpecialRequestService.class, userRepository);
+
+        areaMapper = privateMethod(AreaService.class, "mapToDTO", Area.class);
+        scheduleMapper = privateMethod(ScheduleService.class, "mapToDTO", Schedule.class);
+        userMapper = privateMethod(UserService.class, "mapToDTO", User.class);
+        requestsMapper = privateMethod(SpecialRequestService.class, "mapToDTOs", List.class);
+
+        area = Fixtures.area();
+        schedule = Fixtures.schedule(1);
+        user = Fixtures.user(1);
+        requests = Fixtures.requests(pageSize, distinctUsers);
+    }
+
+    @Benchmark
+    public Object areaMapToDTO() throws Throwable {
+        return areaMapper.invoke(areaService, area);
+    }
+
+    @Benchmark
+    public Object scheduleMapToDTO() throws Throwable {
+        return scheduleMapper.invoke(scheduleService, schedule);
+    }
+
+    @Benchmark
+    public Object userMapToDTO() throws Throwable {
+        return userMapper.invoke(userService, user);
+    }
+
+    @Benchmark
+    public Object specialRequestMapToDTOs() throws Throwable {
+        return requestsMapper.invoke(specialRequestService, requests);
+    }
+
+    private static MethodHandle privateMethod(Class<?> owner, String name, Class<?> parameter)
+            throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        Class<?> returnType = owner.getDeclaredMethod(name, parameter).getReturnType();
+        return lookup.findVirtual(owner, name, MethodType.methodType(returnType, parameter));
+    }
+}
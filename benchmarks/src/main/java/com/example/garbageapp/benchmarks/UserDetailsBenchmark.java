@@ -0,0 +1,37 @@
+package com.example.garbageapp.benchmarks;
+
+import com.example.garbageapp.model.User;
+import com.example.garbageapp.security.UserDetailsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UserDetailsBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user(1);
+    }
+
+    @Benchmark
+    public UserDetailsImpl build() {
+        return UserDetailsImpl.build(user);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.garbageapp.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Runs the application's executable jar against the seeded database and waits until it answers HTTP
+final class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+
+    private AppProcess(Process process) {
+        this.process = process;
+    }
+
+    static AppProcess start(LoadTestOptions options, String mongoUri, Path log) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(options.appJar())) {
+            throw new IllegalStateException("Application jar not found at " + options.appJar()
+                    + "; run 'mvn -DskipTests package' in the project root or pass --app-jar");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options.appJvmArgs());
+        command.add("-jar");
+        command.add(options.appJar().toString());
+        command.add("--spring.data.mongodb.uri=" + mongoUri);
+        command.add("--spring.data.mongodb.database=" + options.database());
+        command.add("--server.port=" + options.appPort());
+        if (!options.appProfiles().isBlank()) {
+            command.add("--spring.profiles.active=" + options.appProfiles());
+        }
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        AppProcess app = new AppProcess(process);
+        try {
+            app.awaitReady(URI.create("http://localhost:" + options.appPort() + "/api/v1/areas/all"), log);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            app.close();
+            throw e;
+        }
+        return app;
+    }
+
+    // Any response, even a 401, means the servlet container is accepting requests
+    private void awaitReady(URI probe, Path log) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue() + "; see " + log);
+            }
+            try {
+                client.send(HttpRequest.newBuilder(probe).timeout(Duration.ofSeconds(2)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                Thread.sleep(500);
+            }
+        }
+        throw new IllegalStateException("Application did not start within " + STARTUP_TIMEOUT + "; see " + log);
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.garbageapp.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The request flows of garbage-app-postman-collection.json, each building one HTTP request from the
+ * seeded data and the pre-authenticated sessions. Picked by weighted random choice per arrival.
+ */
+final class Flows {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final SeedData data;
+    private final List<String> userTokens;
+    private final String adminToken;
+    private final boolean reactive;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentLinkedQueue<String> pendingRequestIds;
+    // Registrations must stay unique across runs against the same database
+    private final AtomicLong registrations = new AtomicLong(
+            30000000000L + System.currentTimeMillis() % 1000000000L * 1000);
+
+    private final Map<String, Function<ThreadLocalRandom, HttpRequest>> builders = new LinkedHashMap<>();
+    private final String[] names;
+    private final int[] cumulativeWeights;
+
+    Flows(String baseUrl, SeedData data, List<String> userTokens, String adminToken, boolean reactive,
+          Map<String, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.data = data;
+        this.userTokens = userTokens;
+        this.adminToken = adminToken;
+        this.reactive = reactive;
+        this.pendingRequestIds = new ConcurrentLinkedQueue<>(data.pendingRequestIds());
+
+        builders.put("register", this::register);
+        builders.put("login", this::login);
+        builders.put("list_areas", random -> get("/areas?page=" + random.nextInt(3) + "&size=20", userToken(random)));
+        builders.put("list_schedules", random -> get("/schedules?page=" + random.nextInt(10) + "&size=20", userToken(random)));
+        builders.put("schedules_by_area", this::schedulesByArea);
+        builders.put("filter_schedules", this::filterSchedules);
+        builders.put("create_request", this::createRequest);
+        builders.put("user_requests", random -> get(reactive
+                ? "/rx/special-requests/user?size=10"
+                : "/special-requests/user?size=10", userToken(random)));
+        builders.put("update_status", this::updateStatus);
+        builders.put("user_stats", random -> get(reactive ? "/rx/dashboard/user/stats" : "/dashboard/user/stats",
+                userToken(random)));
+        builders.put("admin_stats", random -> get("/dashboard/admin/stats", adminToken));
+
+        names = mix.keySet().toArray(new String[0]);
+        cumulativeWeights = new int[names.length];
+        int total = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (!builders.containsKey(names[i])) {
+                throw new IllegalArgumentException("Unknown flow '" + names[i] + "'; known flows: " + builders.keySet());
+            }
+            total += mix.get(names[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The flow mix needs at least one positive weight");
+        }
+    }
+
+    String pick(ThreadLocalRandom random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return names[i];
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    HttpRequest build(String flow, ThreadLocalRandom random) {
+        return builders.get(flow).apply(random);
+    }
+
+    private HttpRequest register(ThreadLocalRandom random) {
+        long n = registrations.incrementAndGet();
+        return post("/auth/register", Map.of(
+                "fullName", "Registered User " + n,
+                "email", "loadtest-register-" + n + "@example.com",
+                "password", Seeder.PASSWORD,
+                "phoneNumber", String.valueOf(n)), null);
+    }
+
+    private HttpRequest login(ThreadLocalRandom random) {
+        String email = data.userEmails().get(random.nextInt(data.userEmails().size()));
+        return post("/auth/login", Map.of("email", email, "password", Seeder.PASSWORD), null);
+    }
+
+    private HttpRequest schedulesByArea(ThreadLocalRandom random) {
+        String areaId = area(random).id();
+        return get(reactive
+                ? "/rx/schedules/area/" + areaId + "?size=20"
+                : "/schedules/area/" + areaId + "?page=" + random.nextInt(5) + "&size=20", userToken(random));
+    }
+
+    private HttpRequest filterSchedules(ThreadLocalRandom random) {
+        LocalDate start = LocalDate.now().plusDays(random.nextInt(-30, 30));
+        Map<String, Object> filter = new LinkedHashMap<>();
+        filter.put("areaId", area(random).id());
+        filter.put("type", random.nextBoolean() ? "REGULAR" : "SPECIAL");
+        filter.put("startDate", start.toString());
+        filter.put("endDate", start.plusDays(30).toString());
+        filter.put("page", 0);
+        filter.put("size", 20);
+        return post("/schedules/filter", filter, userToken(random));
+    }
+
+    private HttpRequest createRequest(ThreadLocalRandom random) {
+        return post("/special-requests", Map.of(
+                "areaId", area(random).id(),
+                "requestDate", LocalDate.now().plusDays(random.nextInt(1, 60)).toString(),
+                "description", "Load test pickup request"), userToken(random));
+    }
+
+    // Each seeded pending request is approved once; after they run out the flow measures the rejected path
+    private HttpRequest updateStatus(ThreadLocalRandom random) {
+        String id = pendingRequestIds.poll();
+        if (id == null) {
+            id = data.pendingRequestIds().isEmpty()
+                    ? "000000000000000000000000"
+                    : data.pendingRequestIds().get(random.nextInt(data.pendingRequestIds().size()));
+        }
+        return patch("/special-requests/" + id + "/status",
+                Map.of("status", random.nextBoolean() ? "APPROVED" : "REJECTED", "adminNote", "Processed by load test"),
+                adminToken);
+    }
+
+    private SeedData.SeedArea area(ThreadLocalRandom random) {
+        return data.areas().get(random.nextInt(data.areas().size()));
+    }
+
+    private String userToken(ThreadLocalRandom random) {
+        return userTokens.get(random.nextInt(userTokens.size()));
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body, String token) {
+        return request(path, token).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body))).build();
+    }
+
+    private HttpRequest patch(String path, Object body, String token) {
+        return request(path, token).header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(json(body))).build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.garbageapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point of the load test: provides a mongod, seeds it, starts the application against it,
+ * logs in a pool of sessions and then replays the API flows open-loop at the configured rate.
+ *
+ * <pre>
+ * java -jar target/loadtest.jar --rate=200 --duration=120 [--mongo-uri=mongodb://localhost:27017]
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final List<String> OPTIONS = List.of("mongo-uri", "database", "target", "app-jar", "app-profiles",
+            "app-jvm-args", "app-port", "no-seed", "users", "areas", "schedules-per-area", "requests", "sessions",
+            "rate", "duration", "warmup", "arrivals", "reactive", "mix", "report");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        List<String> unknown = options.unknown(OPTIONS);
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + unknown + "; supported: " + OPTIONS);
+        }
+
+        try (MongoStandIn mongo = MongoStandIn.start(options.mongoUri())) {
+            Seeder seeder = new Seeder(options);
+            long seedStart = System.nanoTime();
+            SeedData data = options.seed() ? seeder.seed(mongo.uri()) : seeder.load(mongo.uri());
+            log("Seed data ready in %d ms: %d users, %d areas, %d pending requests",
+                    (System.nanoTime() - seedStart) / 1_000_000, data.userEmails().size(), data.areas().size(),
+                    data.pendingRequestIds().size());
+
+            AppProcess app = null;
+            String baseUrl = options.target();
+            if (baseUrl == null) {
+                Path appLog = Path.of("loadtest-app.log");
+                log("Starting %s (profiles: %s), output in %s", options.appJar(),
+                        options.appProfiles().isBlank() ? "default" : options.appProfiles(), appLog);
+                app = AppProcess.start(options, mongo.uri(), appLog);
+                baseUrl = "http://localhost:" + options.appPort() + "/api/v1";
+            }
+
+            try {
+                HttpClient client = HttpClient.newHttpClient();
+                String adminToken = login(client, baseUrl, Seeder.ADMIN_EMAIL);
+                List<String> userTokens = new ArrayList<>();
+                for (String email : data.userEmails().subList(0, Math.min(options.sessions(), data.userEmails().size()))) {
+                    userTokens.add(login(client, baseUrl, email));
+                }
+                log("Logged in %d sessions", userTokens.size());
+
+                Flows flows = new Flows(baseUrl, data, userTokens, adminToken, options.reactive(), options.mix());
+                Results results = new Results();
+                log("Offering %.1f req/s for %d s after %d s warm-up", options.rate(), options.durationSeconds(),
+                        options.warmupSeconds());
+                Map<String, Object> run = new OpenLoopRunner(options, flows, results).run();
+
+                Map<String, Object> report = results.report(options.describe(), options.durationSeconds(), run);
+                results.write(report, options.report());
+                results.print(report, System.out);
+                log("Report written to %s", options.report().toAbsolutePath());
+            } finally {
+                if (app != null) {
+                    app.close();
+                }
+            }
+        }
+        // The HTTP client's executor threads are not daemons
+        System.exit(0);
+    }
+
+    private static String login(HttpClient client, String baseUrl, String email) throws IOException, InterruptedException {
+        String body = new ObjectMapper().writeValueAsString(Map.of("email", email, "password", Seeder.PASSWORD));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login of " + email + " failed with " + response.statusCode()
+                    + ": " + response.body());
+        }
+        JsonNode token = new ObjectMapper().readTree(response.body()).path("data").path("token");
+        if (!token.isTextual()) {
+            throw new IllegalStateException("No token in login response for " + email);
+        }
+        return token.asText();
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[loadtest] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.garbageapp.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Command line options as --name=value or --name value; flags without a value are "true"
+final class LoadTestOptions {
+
+    static final String DEFAULT_MIX = "register=2,login=5,list_areas=10,list_schedules=10,schedules_by_area=15,"
+            + "filter_schedules=10,create_request=5,user_requests=15,update_status=3,user_stats=20,admin_stats=5";
+
+    private final Map<String, String> values;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            String name = arg.substring(2);
+            int equals = name.indexOf('=');
+            if (equals >= 0) {
+                values.put(name.substring(0, equals), name.substring(equals + 1));
+            } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                values.put(name, args[++i]);
+            } else {
+                values.put(name, "true");
+            }
+        }
+        return new LoadTestOptions(values);
+    }
+
+    // An existing mongod; without it an embedded one is started
+    String mongoUri() {
+        return values.get("mongo-uri");
+    }
+
+    String database() {
+        return values.getOrDefault("database", "garbage_loadtest");
+    }
+
+    // An already running application; without it the executable jar is started against the seeded database
+    String target() {
+        return values.get("target");
+    }
+
+    Path appJar() {
+        return Path.of(values.getOrDefault("app-jar", "../target/garbage-app-0.0.1-SNAPSHOT.jar"));
+    }
+
+    String appProfiles() {
+        return values.getOrDefault("app-profiles", "");
+    }
+
+    List<String> appJvmArgs() {
+        String jvmArgs = values.getOrDefault("app-jvm-args", "-Xmx1g");
+        return jvmArgs.isBlank() ? List.of() : List.of(jvmArgs.trim().split("\\s+"));
+    }
+
+    int appPort() {
+        return integer("app-port", 18080);
+    }
+
+    boolean seed() {
+        return !values.containsKey("no-seed");
+    }
+
+    int users() {
+        return integer("users", 2000);
+    }
+
+    int areas() {
+        return integer("areas", 50);
+    }
+
+    int schedulesPerArea() {
+        return integer("schedules-per-area", 200);
+    }
+
+    int requests() {
+        return integer("requests", 20000);
+    }
+
+    int sessions() {
+        return integer("sessions", 200);
+    }
+
+    double rate() {
+        return Double.parseDouble(values.getOrDefault("rate", "100"));
+    }
+
+    int durationSeconds() {
+        return integer("duration", 60);
+    }
+
+    int warmupSeconds() {
+        return integer("warmup", 10);
+    }
+
+    boolean poissonArrivals() {
+        return "poisson".equals(values.getOrDefault("arrivals", "constant"));
+    }
+
+    // Serves the schedule-by-area, user-request and user-stats flows from the /rx endpoints
+    boolean reactive() {
+        return values.containsKey("reactive");
+    }
+
+    Map<String, Integer> mix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : values.getOrDefault("mix", DEFAULT_MIX).split(",")) {
+            String[] parts = entry.trim().split("=");
+            mix.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return mix;
+    }
+
+    Path report() {
+        return Path.of(values.getOrDefault("report", "loadtest-report.json"));
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("target", target() != null ? target() : "local jar " + appJar());
+        description.put("appProfiles", appProfiles());
+        description.put("mongo", mongoUri() != null ? mongoUri() : "embedded");
+        description.put("rate", rate());
+        description.put("arrivals", poissonArrivals() ? "poisson" : "constant");
+        description.put("durationSeconds", durationSeconds());
+        description.put("warmupSeconds", warmupSeconds());
+        description.put("reactive", reactive());
+        description.put("mix", mix());
+        Map<String, Object> seed = new LinkedHashMap<>();
+        seed.put("users", users());
+        seed.put("areas", areas());
+        seed.put("schedulesPerArea", schedulesPerArea());
+        seed.put("requests", requests());
+        description.put("seed", seed);
+        description.put("sessions", sessions());
+        return description;
+    }
+
+    List<String> unknown(List<String> known) {
+        List<String> unknown = new ArrayList<>(values.keySet());
+        unknown.removeAll(known);
+        return unknown;
+    }
+
+    private int integer(String name, int defaultValue) {
+        return Integer.parseInt(values.getOrDefault(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.garbageapp.loadtest;
+
+import de.flapdoodle.embed.mongo.commands.ServerAddress;
+import de.flapdoodle.embed.mongo.distribution.Version;
+import de.flapdoodle.embed.mongo.transitions.Mongod;
+import de.flapdoodle.embed.mongo.transitions.RunningMongodProcess;
+import de.flapdoodle.reverse.TransitionWalker;
+
+// Either points at an existing mongod or downloads and starts an embedded one for the run
+final class MongoStandIn implements AutoCloseable {
+
+    private final String uri;
+    private final TransitionWalker.ReachedState<RunningMongodProcess> embedded;
+
+    private MongoStandIn(String uri, TransitionWalker.ReachedState<RunningMongodProcess> embedded) {
+        this.uri = uri;
+        this.embedded = embedded;
+    }
+
+    static MongoStandIn start(String existingUri) {
+        if (existingUri != null) {
+            return new MongoStandIn(existingUri, null);
+        }
+        TransitionWalker.ReachedState<RunningMongodProcess> running = Mongod.instance().start(Version.Main.V7_0);
+        ServerAddress address = running.current().getServerAddress();
+        return new MongoStandIn("mongodb://" + address.getHost() + ":" + address.getPort(), running);
+    }
+
+    String uri() {
+        return uri;
+    }
+
+    @Override
+    public void close() {
+        if (embedded != null) {
+            embedded.close();
+        }
+    }
+}
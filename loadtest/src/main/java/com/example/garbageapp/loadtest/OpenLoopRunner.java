@@ -0,0 +1,90 @@
+package com.example.garbageapp.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests on a fixed arrival schedule regardless of how fast earlier ones complete. Latency is
+ * measured from each request's intended send time, so a stalled server shows up as queueing delay in
+ * the percentiles instead of silently lowering the offered rate (coordinated omission).
+ */
+final class OpenLoopRunner {
+
+    private final LoadTestOptions options;
+    private final Flows flows;
+    private final Results results;
+    private final HttpClient client;
+
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong maxInFlight = new AtomicLong();
+    private long sent;
+    private long maxDispatchLagNanos;
+
+    OpenLoopRunner(LoadTestOptions options, Flows flows, Results results) {
+        this.options = options;
+        this.flows = flows;
+        this.results = results;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+    }
+
+    Map<String, Object> run() throws InterruptedException {
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long warmupEnd = TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long start = System.nanoTime();
+        double offset = 0;
+        while (offset < end) {
+            long intended = start + (long) offset;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            } else {
+                maxDispatchLagNanos = Math.max(maxDispatchLagNanos, -wait);
+            }
+            dispatch(flows.pick(random), intended, offset >= warmupEnd, random);
+
+            offset += options.poissonArrivals()
+                    ? -Math.log(1 - random.nextDouble()) * intervalNanos
+                    : intervalNanos;
+        }
+
+        // Let the tail finish so the slowest requests are part of the report
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("sent", sent);
+        run.put("unfinished", inFlight.get());
+        run.put("maxInFlight", maxInFlight.get());
+        run.put("maxDispatchLagMs", maxDispatchLagNanos / 1_000_000.0);
+        return run;
+    }
+
+    private void dispatch(String flow, long intended, boolean measured, ThreadLocalRandom random) {
+        sent++;
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        client.sendAsync(flows.build(flow, random), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - intended;
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        results.record(flow, latency, error == null ? response.statusCode() : -1);
+                    }
+                });
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.garbageapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency histograms and status code counts per flow, written out as the JSON report and a console table
+final class Results {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    static final String EXCEPTION = "exception";
+
+    private final Map<String, FlowResults> flows = new ConcurrentHashMap<>();
+
+    void record(String flow, long latencyNanos, int status) {
+        FlowResults results = flows.computeIfAbsent(flow, name -> new FlowResults());
+        results.histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        results.statusCodes.computeIfAbsent(status < 0 ? EXCEPTION : String.valueOf(status), code -> new LongAdder())
+                .increment();
+        if (status < 200 || status >= 300) {
+            results.errors.increment();
+        }
+    }
+
+    Map<String, Object> report(Map<String, Object> config, double measuredSeconds, Map<String, Object> run) {
+        Map<String, Object> endpoints = new TreeMap<>();
+        Histogram all = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long allErrors = 0;
+        for (Map.Entry<String, FlowResults> entry : flows.entrySet()) {
+            Histogram histogram = entry.getValue().histogram.copy();
+            all.add(histogram);
+            allErrors += entry.getValue().errors.sum();
+            endpoints.put(entry.getKey(), summary(histogram, entry.getValue().errors.sum(), measuredSeconds,
+                    entry.getValue().statusCodes()));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("config", config);
+        report.put("run", run);
+        report.put("overall", summary(all, allErrors, measuredSeconds, null));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    void write(Map<String, Object> report, Path path) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+    }
+
+    @SuppressWarnings("unchecked")
+    void print(Map<String, Object> report, PrintStream out) {
+        out.printf("%-20s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) report.get("endpoints"));
+        rows.put("overall", report.get("overall"));
+        rows.forEach((name, value) -> {
+            Map<String, Object> row = (Map<String, Object>) value;
+            Map<String, Object> latency = (Map<String, Object>) row.get("latencyMs");
+            out.printf("%-20s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, row.get("requests"), row.get("errors"),
+                    row.get("throughputPerSecond"), latency.get("p50"), latency.get("p95"), latency.get("p99"),
+                    latency.get("max"));
+        });
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, long errors, double seconds,
+                                               Map<String, Long> statusCodes) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latency.put("p95", millis(histogram.getValueAtPercentile(95)));
+        latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latency.put("max", millis(histogram.getMaxValue()));
+        latency.put("mean", Math.round(histogram.getMean()) / 1000.0);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", histogram.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", seconds > 0 ? histogram.getTotalCount() / seconds : 0.0);
+        summary.put("latencyMs", latency);
+        if (statusCodes != null) {
+            summary.put("statusCodes", statusCodes);
+        }
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class FlowResults {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Map<String, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+
+        private Map<String, Long> statusCodes() {
+            Map<String, Long> counts = new TreeMap<>();
+            statusCodes.forEach((code, count) -> counts.put(code, count.sum()));
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.garbageapp.loadtest;
+
+import java.util.List;
+
+record SeedData(List<String> userEmails, List<SeedArea> areas, List<String> pendingRequestIds) {
+
+    record SeedArea(String id, String name, String zone) {
+    }
+}
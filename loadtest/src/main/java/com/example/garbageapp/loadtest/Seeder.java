@@ -0,0 +1,205 @@
+package com.example.garbageapp.loadtest;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Writes the data set straight through the driver in the shape Spring Data maps the application's
+ * documents to, so seeding a few hundred thousand documents takes seconds rather than minutes of API calls.
+ */
+final class Seeder {
+
+    static final String PASSWORD = "loadtest-password";
+    static final String ADMIN_EMAIL = "loadtest-admin@example.com";
+
+    private static final String[] ZONES = {"North", "South", "East", "West", "Central"};
+    private static final String[] DAYS = {"MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY"};
+    private static final int BATCH = 1000;
+
+    private final LoadTestOptions options;
+    private final Random random = new Random(42);
+
+    Seeder(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    SeedData seed(String mongoUri) {
+        try (MongoClient client = MongoClients.create(mongoUri)) {
+            MongoDatabase database = client.getDatabase(options.database());
+            database.drop();
+
+            // One hash for everyone: BCrypt at strength 10 would otherwise dominate seeding time
+            String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+            List<String> emails = seedUsers(database.getCollection("users"), passwordHash);
+            List<SeedData.SeedArea> areas = seedAreas(database.getCollection("areas"));
+            seedSchedules(database.getCollection("schedules"), areas);
+            List<String> pendingRequestIds = seedRequests(database.getCollection("special_requests"),
+                    database.getCollection("users"), areas);
+            return new SeedData(emails, areas, pendingRequestIds);
+        }
+    }
+
+    // Reads back what an earlier run seeded when --no-seed is given
+    SeedData load(String mongoUri) {
+        try (MongoClient client = MongoClients.create(mongoUri)) {
+            MongoDatabase database = client.getDatabase(options.database());
+            List<String> emails = new ArrayList<>();
+            database.getCollection("users").find(new Document("email", new Document("$ne", ADMIN_EMAIL)))
+                    .limit(options.sessions()).forEach(user -> emails.add(user.getString("email")));
+            List<SeedData.SeedArea> areas = new ArrayList<>();
+            database.getCollection("areas").find().forEach(area ->
+                    areas.add(new SeedData.SeedArea(area.getObjectId("_id").toHexString(),
+                            area.getString("name"), area.getString("zone"))));
+            List<String> pending = new ArrayList<>();
+            database.getCollection("special_requests").find(new Document("status", "PENDING"))
+                    .forEach(request -> pending.add(request.getObjectId("_id").toHexString()));
+            return new SeedData(emails, areas, pending);
+        }
+    }
+
+    private List<String> seedUsers(MongoCollection<Document> users, String passwordHash) {
+        users.createIndex(Indexes.ascending("email"), new IndexOptions().unique(true));
+        users.createIndex(Indexes.ascending("phoneNumber"), new IndexOptions().unique(true));
+
+        List<String> emails = new ArrayList<>();
+        List<Document> batch = new ArrayList<>();
+        Date now = toDate(LocalDateTime.now());
+        batch.add(user("Load Test Admin", ADMIN_EMAIL, passwordHash, "1000000000", List.of("ROLE_USER", "ROLE_ADMIN"), now));
+        for (int i = 0; i < options.users(); i++) {
+            String email = "loadtest-user-" + i + "@example.com";
+            emails.add(email);
+            batch.add(user("Load Test User " + i, email, passwordHash, String.valueOf(2000000000L + i),
+                    List.of("ROLE_USER"), now));
+            flushIfFull(users, batch);
+        }
+        flush(users, batch);
+        return emails;
+    }
+
+    private Document user(String name, String email, String passwordHash, String phone, List<String> roles, Date now) {
+        return new Document("_id", new ObjectId())
+                .append("fullName", name)
+                .append("email", email)
+                .append("password", passwordHash)
+                .append("phoneNumber", phone)
+                .append("roles", roles)
+                .append("active", true)
+                .append("createdAt", now)
+                .append("updatedAt", now)
+                .append("_class", "com.example.garbageapp.model.User");
+    }
+
+    private List<SeedData.SeedArea> seedAreas(MongoCollection<Document> areas) {
+        List<SeedData.SeedArea> seeded = new ArrayList<>();
+        List<Document> batch = new ArrayList<>();
+        Date now = toDate(LocalDateTime.now());
+        for (int i = 0; i < options.areas(); i++) {
+            ObjectId id = new ObjectId();
+            String name = "Area " + i;
+            String zone = ZONES[i % ZONES.length];
+            batch.add(new Document("_id", id)
+                    .append("name", name)
+                    .append("zone", zone)
+                    .append("pickupDays", List.of(DAYS[i % DAYS.length], DAYS[(i + 3) % DAYS.length]))
+                    .append("createdAt", now)
+                    .append("updatedAt", now)
+                    .append("_class", "com.example.garbageapp.model.Area"));
+            seeded.add(new SeedData.SeedArea(id.toHexString(), name, zone));
+        }
+        flush(areas, batch);
+        return seeded;
+    }
+
+    private void seedSchedules(MongoCollection<Document> schedules, List<SeedData.SeedArea> areas) {
+        List<Document> batch = new ArrayList<>();
+        Date now = toDate(LocalDateTime.now());
+        LocalDateTime start = LocalDate.now().minusDays(options.schedulesPerArea() / 2).atTime(8, 0);
+        for (SeedData.SeedArea area : areas) {
+            for (int i = 0; i < options.schedulesPerArea(); i++) {
+                LocalDateTime pickup = start.plusDays(i);
+                boolean special = pickup.getDayOfWeek() == DayOfWeek.SUNDAY || random.nextInt(10) == 0;
+                batch.add(new Document("_id", new ObjectId())
+                        .append("areaId", area.id())
+                        .append("areaName", area.name())
+                        .append("zone", area.zone())
+                        .append("pickupDate", toDate(pickup))
+                        .append("type", special ? "SPECIAL" : "REGULAR")
+                        .append("notes", special ? "Bulky waste collection" : null)
+                        .append("generated", false)
+                        .append("createdAt", now)
+                        .append("updatedAt", now)
+                        .append("_class", "com.example.garbageapp.model.Schedule"));
+                flushIfFull(schedules, batch);
+            }
+        }
+        flush(schedules, batch);
+    }
+
+    private List<String> seedRequests(MongoCollection<Document> requests, MongoCollection<Document> users,
+                                      List<SeedData.SeedArea> areas) {
+        List<String> userIds = new ArrayList<>();
+        users.find(new Document("email", new Document("$ne", ADMIN_EMAIL)))
+                .forEach(user -> userIds.add(user.getObjectId("_id").toHexString()));
+
+        String[] statuses = {"PENDING", "PENDING", "APPROVED", "REJECTED"};
+        List<String> pending = new ArrayList<>();
+        List<Document> batch = new ArrayList<>();
+        Date now = toDate(LocalDateTime.now());
+        for (int i = 0; i < options.requests() && !userIds.isEmpty() && !areas.isEmpty(); i++) {
+            ObjectId id = new ObjectId();
+            SeedData.SeedArea area = areas.get(random.nextInt(areas.size()));
+            String status = statuses[random.nextInt(statuses.length)];
+            if (status.equals("PENDING")) {
+                pending.add(id.toHexString());
+            }
+            batch.add(new Document("_id", id)
+                    .append("userId", userIds.get(random.nextInt(userIds.size())))
+                    .append("areaId", area.id())
+                    .append("areaName", area.name())
+                    .append("zone", area.zone())
+                    .append("requestDate", toDate(LocalDate.now().plusDays(1 + random.nextInt(60)).atStartOfDay()))
+                    .append("status", status)
+                    .append("description", "Extra pickup for garden waste")
+                    .append("createdAt", now)
+                    .append("updatedAt", now)
+                    .append("_class", "com.example.garbageapp.model.SpecialRequest"));
+            flushIfFull(requests, batch);
+        }
+        flush(requests, batch);
+        return pending;
+    }
+
+    private static void flushIfFull(MongoCollection<Document> collection, List<Document> batch) {
+        if (batch.size() >= BATCH) {
+            flush(collection, batch);
+        }
+    }
+
+    private static void flush(MongoCollection<Document> collection, List<Document> batch) {
+        if (!batch.isEmpty()) {
+            collection.insertMany(batch, new InsertManyOptions().ordered(false));
+            batch.clear();
+        }
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
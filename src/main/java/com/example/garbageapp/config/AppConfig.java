@@ -3,9 +3,13 @@ package com.example.garbageapp.config;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @EnableMongoRepositories(basePackages = "com.example.garbageapp.repository")
 @EnableMongoAuditing
+@EnableAsync
+@EnableScheduling
 public class AppConfig {
 }
\ No newline at end of file
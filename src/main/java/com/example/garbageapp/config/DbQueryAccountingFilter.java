@@ -0,0 +1,49 @@
+package com.example.garbageapp.config;
+
+import com.example.garbageapp.service.DbQueryCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Ordered ahead of Spring Security so the principal lookup is counted with the rest of the request
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DbQueryAccountingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DbQueryAccountingFilter.class);
+
+    private final int warnThreshold;
+
+    public DbQueryAccountingFilter(@Value("${app.db-accounting.warn-threshold:20}") int warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        try (DbQueryCounter.Scope scope = DbQueryCounter.open()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                // For async requests this covers the original dispatch only, which still bounds the total from below
+                if (scope.getCount() > warnThreshold) {
+                    logger.warn("{} {} issued {} database commands ({} ms), possible N+1 query",
+                            request.getMethod(), request.getRequestURI(), scope.getCount(),
+                            Math.round(scope.getMillis()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.garbageapp.config;
+
+import com.example.garbageapp.service.DbQueryCounter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+// Reports the request's database usage so far on every response body, error responses included.
+// Async dispatches (Mono and deferred results) write their body after the filter's scope has closed, and
+// the reactive driver reports its commands on its own threads, so they get no headers rather than a partial count.
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.db-accounting.headers-enabled", havingValue = "true")
+public class DbQueryHeadersAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getDispatcherType() == DispatcherType.ASYNC) {
+            return body;
+        }
+        DbQueryCounter.Scope scope = DbQueryCounter.current();
+        if (scope != null) {
+            response.getHeaders().set("X-Db-Query-Count", String.valueOf(scope.getCount()));
+            response.getHeaders().set("X-Db-Time", String.format(Locale.ROOT, "%.2f", scope.getMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.garbageapp.config;
+
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Schedule;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class MongoIndexInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(
+            User.class, Area.class, Schedule.class, SpecialRequest.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoIndexInitializer(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Creates the @Indexed/@CompoundIndex definitions without making startup depend on Mongo being reachable
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+
+        for (Class<?> type : INDEXED_DOCUMENTS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(type);
+            for (IndexDefinition index : resolver.resolveIndexFor(type)) {
+                try {
+                    indexOps.ensureIndex(index);
+                } catch (DataAccessResourceFailureException e) {
+                    logger.warn("Skipping index creation, Mongo is unreachable: {}", e.getMessage());
+                    return;
+                } catch (Exception e) {
+                    logger.warn("Could not create index {} on {}: {}", index.getIndexKeys(), type.getSimpleName(), e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.garbageapp.config;
+
+import com.example.garbageapp.service.DbQueryCounter;
+import com.example.garbageapp.service.QueryStatsCollector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Command listeners for the blocking and, with the reactive profile, the reactive Mongo client
+@Configuration
+public class MongoMonitoringConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.mongo.query-stats", name = "enabled", matchIfMissing = true)
+    public MongoClientSettingsBuilderCustomizer queryStatsListener(QueryStatsCollector queryStatsCollector) {
+        return settings -> settings.addCommandListener(queryStatsCollector);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer dbQueryCounterListener(DbQueryCounter dbQueryCounter) {
+        return settings -> settings.addCommandListener(dbQueryCounter);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.garbageapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.mongo.query-stats")
+public class QueryStatsProperties {
+    private boolean enabled = true;
+    private long slowThresholdMs = 100;
+    private int slowLogSize = 100;
+    private int maxShapes = 1000;
+    private long explainIntervalSeconds = 60;
+    private String explainVerbosity = "queryPlanner";
+}
@@ -0,0 +1,12 @@
+package com.example.garbageapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+// The non-blocking read endpoints and their repositories only exist with the "reactive" profile
+@Configuration
+@Profile("reactive")
+@EnableReactiveMongoRepositories(basePackages = "com.example.garbageapp.repository.reactive")
+public class ReactiveMongoConfig {
+}
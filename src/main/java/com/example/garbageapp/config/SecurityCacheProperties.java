@@ -0,0 +1,14 @@
+package com.example.garbageapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.security.cache")
+public class SecurityCacheProperties {
+    private long principalTtlSeconds = 60;
+    private long principalMaxSize = 10000;
+    private long verifiedTokenMaxSize = 10000;
+}
@@ -3,6 +3,7 @@ package com.example.garbageapp.controller;
 import com.example.garbageapp.dto.ApiResponse;
 import com.example.garbageapp.dto.AreaDTO;
 import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.dto.TotalMode;
 import com.example.garbageapp.service.AreaService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -41,9 +42,12 @@ public class AreaController {
     @GetMapping
     public ResponseEntity<ApiResponse<PagedResponse<AreaDTO>>> getAllAreas(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
-        PagedResponse<AreaDTO> response = areaService.getAllAreas(page, size);
+        PagedResponse<AreaDTO> response = areaService.getAllAreas(page, size,
+                TotalMode.of(withTotal, approximateTotal));
         return ResponseEntity.ok(ApiResponse.success(response, "Areas retrieved successfully"));
     }
     
@@ -0,0 +1,50 @@
+package com.example.garbageapp.controller;
+
+import com.example.garbageapp.dto.ApiResponse;
+import com.example.garbageapp.dto.QueryShapeStatsDTO;
+import com.example.garbageapp.dto.QueryStatsDTO;
+import com.example.garbageapp.exception.BadRequestException;
+import com.example.garbageapp.service.QueryStatsCollector;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Comparator;
+
+@RestController
+@RequestMapping("/admin/query-stats")
+@PreAuthorize("hasRole('ROLE_ADMIN')")
+public class QueryStatsController {
+
+    private final QueryStatsCollector queryStatsCollector;
+
+    public QueryStatsController(QueryStatsCollector queryStatsCollector) {
+        this.queryStatsCollector = queryStatsCollector;
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<QueryStatsDTO>> getQueryStats(
+            @RequestParam(defaultValue = "total") String sort,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        Comparator<QueryShapeStatsDTO> order = switch (sort) {
+            case "total" -> Comparator.comparingDouble(QueryShapeStatsDTO::getTotalMs);
+            case "mean" -> Comparator.comparingDouble(QueryShapeStatsDTO::getMeanMs);
+            case "max" -> Comparator.comparingDouble(QueryShapeStatsDTO::getMaxMs);
+            case "calls" -> Comparator.comparingLong(QueryShapeStatsDTO::getCalls);
+            default -> throw new BadRequestException("Unknown sort '" + sort + "'; use total, mean, max or calls");
+        };
+        QueryStatsDTO stats = queryStatsCollector.getStats(order.reversed(), Math.max(1, limit));
+        return ResponseEntity.ok(ApiResponse.success(stats, "Query statistics retrieved successfully"));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> resetQueryStats() {
+        queryStatsCollector.reset();
+        return ResponseEntity.ok(ApiResponse.success(null, "Query statistics reset successfully"));
+    }
+}
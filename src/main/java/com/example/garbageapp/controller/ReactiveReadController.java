@@ -0,0 +1,64 @@
+package com.example.garbageapp.controller;
+
+import com.example.garbageapp.dto.ApiResponse;
+import com.example.garbageapp.dto.DashboardStatsDTO;
+import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.dto.ScheduleDTO;
+import com.example.garbageapp.dto.SpecialRequestDTO;
+import com.example.garbageapp.security.CurrentUserProvider;
+import com.example.garbageapp.security.UserDetailsImpl;
+import com.example.garbageapp.service.ReactiveReadService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+// Same responses as the servlet read endpoints, but the request thread is released while Mongo is queried.
+// The principal is resolved before the Mono is returned, while the security context is still bound.
+@RestController
+@Profile("reactive")
+@RequestMapping("/rx")
+public class ReactiveReadController {
+
+    private final ReactiveReadService reactiveReadService;
+    private final CurrentUserProvider currentUserProvider;
+
+    public ReactiveReadController(ReactiveReadService reactiveReadService, CurrentUserProvider currentUserProvider) {
+        this.reactiveReadService = reactiveReadService;
+        this.currentUserProvider = currentUserProvider;
+    }
+
+    @GetMapping("/schedules/area/{areaId}")
+    public Mono<ResponseEntity<ApiResponse<PagedResponse<ScheduleDTO>>>> getSchedulesByAreaId(
+            @PathVariable String areaId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return reactiveReadService.getSchedulesByAreaId(areaId, page, size)
+                .map(response -> ResponseEntity.ok(
+                        ApiResponse.success(response, "Schedules by area retrieved successfully")));
+    }
+
+    @GetMapping("/special-requests/user")
+    public Mono<ResponseEntity<ApiResponse<PagedResponse<SpecialRequestDTO>>>> getUserRequests(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        UserDetailsImpl currentUser = currentUserProvider.getCurrentUser();
+        return reactiveReadService.getUserRequests(currentUser, page, size)
+                .map(response -> ResponseEntity.ok(
+                        ApiResponse.success(response, "User's special requests retrieved successfully")));
+    }
+
+    @GetMapping("/dashboard/user/stats")
+    public Mono<ResponseEntity<ApiResponse<DashboardStatsDTO>>> getUserDashboardStats() {
+        String currentUserId = currentUserProvider.getCurrentUserId();
+        return reactiveReadService.getUserDashboardStats(currentUserId)
+                .map(stats -> ResponseEntity.ok(
+                        ApiResponse.success(stats, "User dashboard statistics retrieved successfully")));
+    }
+}
@@ -1,17 +1,27 @@
 package com.example.garbageapp.controller;
 
 import com.example.garbageapp.dto.ApiResponse;
+import com.example.garbageapp.dto.BulkImportResultDTO;
+import com.example.garbageapp.dto.ExportFormat;
 import com.example.garbageapp.dto.PagedResponse;
 import com.example.garbageapp.dto.ScheduleDTO;
 import com.example.garbageapp.dto.ScheduleFilterDTO;
+import com.example.garbageapp.dto.TotalMode;
+import com.example.garbageapp.model.Schedule;
+import com.example.garbageapp.service.ScheduleImportService;
 import com.example.garbageapp.service.ScheduleService;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -20,9 +30,11 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleImportService scheduleImportService;
     
-    public ScheduleController(ScheduleService scheduleService) {
+    public ScheduleController(ScheduleService scheduleService, ScheduleImportService scheduleImportService) {
         this.scheduleService = scheduleService;
+        this.scheduleImportService = scheduleImportService;
     }
     
     @PostMapping
@@ -35,6 +47,29 @@ public class ScheduleController {
         );
     }
     
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<BulkImportResultDTO>> importSchedulesJson(InputStream body) throws IOException {
+        return importResponse(scheduleImportService.importJson(body));
+    }
+    
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<BulkImportResultDTO>> importSchedulesCsv(InputStream body) throws IOException {
+        return importResponse(scheduleImportService.importCsv(body));
+    }
+    
+    // A body that breaks off part way is a client error, but the items written before it are still reported
+    private ResponseEntity<ApiResponse<BulkImportResultDTO>> importResponse(BulkImportResultDTO result) {
+        if (result.getError() != null) {
+            ApiResponse<BulkImportResultDTO> response =
+                    ApiResponse.error("Bulk schedule import stopped early: " + result.getError());
+            response.setData(result);
+            return ResponseEntity.badRequest().body(response);
+        }
+        return ResponseEntity.ok(ApiResponse.success(result, "Bulk schedule import completed"));
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ScheduleDTO>> getScheduleById(@PathVariable String id) {
         ScheduleDTO schedule = scheduleService.getScheduleById(id);
@@ -44,9 +79,13 @@ public class ScheduleController {
     @GetMapping
     public ResponseEntity<ApiResponse<PagedResponse<ScheduleDTO>>> getAllSchedules(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
-        PagedResponse<ScheduleDTO> response = scheduleService.getAllSchedules(page, size);
+        PagedResponse<ScheduleDTO> response = scheduleService.getAllSchedules(page, size, cursor,
+                TotalMode.of(withTotal, approximateTotal));
         return ResponseEntity.ok(ApiResponse.success(response, "Schedules retrieved successfully"));
     }
     
@@ -54,9 +93,13 @@ public class ScheduleController {
     public ResponseEntity<ApiResponse<PagedResponse<ScheduleDTO>>> getSchedulesByAreaId(
             @PathVariable String areaId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
-        PagedResponse<ScheduleDTO> response = scheduleService.getSchedulesByAreaId(areaId, page, size);
+        PagedResponse<ScheduleDTO> response = scheduleService.getSchedulesByAreaId(areaId, page, size, cursor,
+                TotalMode.of(withTotal, approximateTotal));
         return ResponseEntity.ok(ApiResponse.success(response, "Schedules by area retrieved successfully"));
     }
     
@@ -77,6 +120,29 @@ public class ScheduleController {
         return ResponseEntity.ok(ApiResponse.success(response, "Filtered schedules retrieved successfully"));
     }
     
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportSchedules(
+            @RequestParam(required = false) String areaId,
+            @RequestParam(required = false) Schedule.ScheduleType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ScheduleFilterDTO filterDTO = new ScheduleFilterDTO();
+        filterDTO.setAreaId(areaId);
+        filterDTO.setType(type);
+        filterDTO.setStartDate(startDate);
+        filterDTO.setEndDate(endDate);
+        
+        StreamingResponseBody body = out -> scheduleService.exportSchedules(filterDTO, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=schedules." + exportFormat.getExtension())
+                .body(body);
+    }
+    
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<ApiResponse<ScheduleDTO>> updateSchedule(
@@ -1,12 +1,18 @@
 package com.example.garbageapp.controller;
 
 import com.example.garbageapp.dto.*;
+import com.example.garbageapp.model.SpecialRequest;
 import com.example.garbageapp.service.SpecialRequestService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/special-requests")
@@ -38,9 +44,13 @@ public class SpecialRequestController {
     @GetMapping("/user")
     public ResponseEntity<ApiResponse<PagedResponse<SpecialRequestDTO>>> getUserRequests(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
-        PagedResponse<SpecialRequestDTO> response = specialRequestService.getUserRequests(page, size);
+        PagedResponse<SpecialRequestDTO> response = specialRequestService.getUserRequests(page, size, cursor,
+                TotalMode.of(withTotal, approximateTotal));
         return ResponseEntity.ok(ApiResponse.success(response, "User's special requests retrieved successfully"));
     }
     
@@ -48,9 +58,13 @@ public class SpecialRequestController {
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<ApiResponse<PagedResponse<SpecialRequestDTO>>> getAllRequests(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
-        PagedResponse<SpecialRequestDTO> response = specialRequestService.getAllRequests(page, size);
+        PagedResponse<SpecialRequestDTO> response = specialRequestService.getAllRequests(page, size, cursor,
+                TotalMode.of(withTotal, approximateTotal));
         return ResponseEntity.ok(ApiResponse.success(response, "All special requests retrieved successfully"));
     }
     
@@ -62,6 +76,41 @@ public class SpecialRequestController {
         return ResponseEntity.ok(ApiResponse.success(response, "Filtered special requests retrieved successfully"));
     }
     
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportRequests(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String areaId,
+            @RequestParam(required = false) SpecialRequest.RequestStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        RequestFilterDTO filterDTO = new RequestFilterDTO();
+        filterDTO.setUserId(userId);
+        filterDTO.setAreaId(areaId);
+        filterDTO.setStatus(status);
+        filterDTO.setStartDate(startDate);
+        filterDTO.setEndDate(endDate);
+        
+        StreamingResponseBody body = out -> specialRequestService.exportRequests(filterDTO, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=special-requests." + exportFormat.getExtension())
+                .body(body);
+    }
+    
+    @PatchMapping("/status/bulk")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResultDTO>> updateRequestStatuses(
+            @Valid @RequestBody BulkStatusUpdateDTO bulkUpdate
+    ) {
+        BulkStatusUpdateResultDTO result = specialRequestService.updateRequestStatuses(bulkUpdate);
+        return ResponseEntity.ok(ApiResponse.success(result, "Special request statuses updated successfully"));
+    }
+    
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<ApiResponse<SpecialRequestDTO>> updateRequestStatus(
@@ -2,6 +2,7 @@ package com.example.garbageapp.controller;
 
 import com.example.garbageapp.dto.ApiResponse;
 import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.dto.TotalMode;
 import com.example.garbageapp.dto.UserDTO;
 import com.example.garbageapp.dto.UserRoleUpdateDTO;
 import com.example.garbageapp.service.UserService;
@@ -37,9 +38,13 @@ public class UserController {
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     public ResponseEntity<ApiResponse<PagedResponse<UserDTO>>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
     ) {
-        PagedResponse<UserDTO> response = userService.getAllUsers(page, size);
+        PagedResponse<UserDTO> response = userService.getAllUsers(page, size, cursor,
+                TotalMode.of(withTotal, approximateTotal));
         return ResponseEntity.ok(ApiResponse.success(response, "Users retrieved successfully"));
     }
     
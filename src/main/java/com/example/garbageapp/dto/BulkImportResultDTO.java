@@ -0,0 +1,19 @@
+package com.example.garbageapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDTO {
+    private int total;
+    private int created;
+    private int failed;
+    private List<BulkItemResultDTO> results;
+    // Set when the body could not be read to the end; results cover the items before that point
+    private String error;
+}
@@ -0,0 +1,23 @@
+package com.example.garbageapp.dto;
+
+import com.example.garbageapp.model.SpecialRequest;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkStatusUpdateDTO {
+    
+    // Either explicit ids or a filter selects the requests; ids win when both are given
+    private List<String> ids;
+    
+    private RequestFilterDTO filter;
+    
+    @NotNull(message = "Status is required")
+    private SpecialRequest.RequestStatus status;
+    
+    @Size(max = 500, message = "Admin note cannot exceed 500 characters")
+    private String adminNote;
+}
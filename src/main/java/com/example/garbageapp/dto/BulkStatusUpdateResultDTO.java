@@ -0,0 +1,13 @@
+package com.example.garbageapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResultDTO {
+    private long updated;
+    private long skipped;
+}
@@ -3,6 +3,7 @@ package com.example.garbageapp.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -16,4 +17,24 @@ public class PagedResponse<T> {
     private long totalElements;
     private int totalPages;
     private boolean last;
+    
+    // Opaque position of the last item, set only in cursor mode while more items follow
+    private String nextCursor;
+    
+    public PagedResponse(List<T> content, int page, int size, long totalElements, int totalPages, boolean last) {
+        this(content, page, size, totalElements, totalPages, last, null);
+    }
+    
+    // totalElements is -1 when the total was not computed
+    public static <T> PagedResponse<T> of(Slice<?> slice, List<T> content, long totalElements) {
+        int totalPages = totalElements < 0 ? -1 : (int) Math.ceil((double) totalElements / slice.getSize());
+        return new PagedResponse<>(
+                content,
+                slice.getNumber(),
+                slice.getSize(),
+                totalElements,
+                totalPages,
+                !slice.hasNext()
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.garbageapp.dto;
+
+import lombok.Data;
+
+@Data
+public class QueryShapeStatsDTO {
+    private String shape;
+    private String command;
+    private String collection;
+    private long calls;
+    private long failures;
+    private long slowCalls;
+    private long documents;
+    private double totalMs;
+    private double meanMs;
+    private double minMs;
+    private double maxMs;
+}
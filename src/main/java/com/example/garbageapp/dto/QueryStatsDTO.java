@@ -0,0 +1,18 @@
+package com.example.garbageapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryStatsDTO {
+    private LocalDateTime collectingSince;
+    private long slowThresholdMs;
+    private List<QueryShapeStatsDTO> shapes;
+    private List<SlowQueryDTO> slowQueries;
+}
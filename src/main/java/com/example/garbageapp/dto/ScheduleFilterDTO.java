@@ -13,4 +13,10 @@ public class ScheduleFilterDTO {
     private LocalDate endDate;
     private Integer page = 0;
     private Integer size = 10;
+    private Boolean withTotal = true;
+    private Boolean approximateTotal = false;
+    
+    public TotalMode getTotalMode() {
+        return TotalMode.of(!Boolean.FALSE.equals(withTotal), Boolean.TRUE.equals(approximateTotal));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.garbageapp.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class SlowQueryDTO {
+    private String shape;
+    private String database;
+    private double durationMs;
+    private boolean failed;
+    private LocalDateTime executedAt;
+    private JsonNode command;
+    private String explainStatus;
+    private JsonNode explain;
+}
@@ -0,0 +1,14 @@
+package com.example.garbageapp.dto;
+
+public enum TotalMode {
+    EXACT,
+    APPROXIMATE,
+    NONE;
+
+    public static TotalMode of(boolean withTotal, boolean approximateTotal) {
+        if (!withTotal) {
+            return NONE;
+        }
+        return approximateTotal ? APPROXIMATE : EXACT;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.garbageapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "dashboard_counters")
+public class DashboardCounters {
+    
+    @Id
+    private String id;
+    
+    private long totalUsers;
+    
+    private long totalAreas;
+    
+    private long totalRequests;
+    
+    private Map<String, Long> requestsByStatus = new HashMap<>();
+    
+    private Map<String, Long> requestsByZone = new HashMap<>();
+    
+    // Set only by a full rebuild; documents created by an $inc upsert alone are incomplete
+    private LocalDateTime rebuiltAt;
+}
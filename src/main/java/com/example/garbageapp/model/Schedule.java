@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "schedules")
+@CompoundIndexes({
+    @CompoundIndex(name = "pickupDate", def = "{'pickupDate': 1, '_id': 1}"),
+    @CompoundIndex(name = "area_pickupDate", def = "{'areaId': 1, 'pickupDate': 1, '_id': 1}"),
+    // One materialized row per area, pickup time and type; manually created schedules are exempt
+    @CompoundIndex(name = "generated_area_pickupDate_type", def = "{'areaId': 1, 'pickupDate': 1, 'type': 1}",
+            unique = true, partialFilter = "{'generated': true}")
+})
 public class Schedule {
     
     @Id
@@ -21,12 +30,20 @@ public class Schedule {
     
     private String areaId;
     
+    // Snapshot of the area at write time so reads don't need to join back to areas
+    private String areaName;
+    
+    private String zone;
+    
     private LocalDateTime pickupDate;
     
     private ScheduleType type;
     
     private String notes;
     
+    // Set on rows created by the recurring schedule materializer from the area's pickup days
+    private boolean generated;
+    
     @CreatedDate
     private LocalDateTime createdAt;
     
@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
@@ -15,6 +17,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "special_requests")
+@CompoundIndexes({
+    @CompoundIndex(name = "requestDate", def = "{'requestDate': -1, '_id': -1}"),
+    @CompoundIndex(name = "user_requestDate", def = "{'userId': 1, 'requestDate': -1, '_id': -1}"),
+    @CompoundIndex(name = "area_requestDate", def = "{'areaId': 1, 'requestDate': -1, '_id': -1}"),
+    @CompoundIndex(name = "status_requestDate", def = "{'status': 1, 'requestDate': -1, '_id': -1}")
+})
 public class SpecialRequest {
     
     @Id
@@ -24,6 +32,11 @@ public class SpecialRequest {
     
     private String areaId;
     
+    // Snapshot of the area at write time so reads don't need to join back to areas
+    private String areaName;
+    
+    private String zone;
+    
     private LocalDate requestDate;
     
     private RequestStatus status;
@@ -1,6 +1,8 @@
 package com.example.garbageapp.repository;
 
 import com.example.garbageapp.model.Area;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.List;
@@ -9,5 +11,6 @@ import java.util.Optional;
 public interface AreaRepository extends MongoRepository<Area, String> {
     Optional<Area> findByName(String name);
     List<Area> findByZone(String zone);
+    Slice<Area> findSliceBy(Pageable pageable);
     boolean existsByName(String name);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.example.garbageapp.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupCount {
+    
+    @Id
+    private String key;
+    
+    private long count;
+}
@@ -0,0 +1,37 @@
+package com.example.garbageapp.repository;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+final class KeysetQuery {
+
+    private KeysetQuery() {
+    }
+
+    // Seeks past (sortValue, id) on a (sortKey, _id) index instead of skipping, so every page costs the same.
+    // Cursor pages leave out documents without a sort key: every write path requires it, and a branch for
+    // null keys inside the $or would keep the seek from being a single index range.
+    static Query after(Query query, String sortKey, Sort.Direction direction, Object sortValue, String id, int limit) {
+        if (sortValue != null && id != null) {
+            Object lastId = ObjectId.isValid(id) ? new ObjectId(id) : id;
+            boolean ascending = direction.isAscending();
+
+            Criteria beyondSortValue = ascending
+                    ? Criteria.where(sortKey).gt(sortValue)
+                    : Criteria.where(sortKey).lt(sortValue);
+            Criteria beyondId = ascending
+                    ? Criteria.where("_id").gt(lastId)
+                    : Criteria.where("_id").lt(lastId);
+
+            query.addCriteria(new Criteria().orOperator(
+                    beyondSortValue,
+                    new Criteria().andOperator(Criteria.where(sortKey).is(sortValue), beyondId)));
+        } else {
+            query.addCriteria(Criteria.where(sortKey).ne(null));
+        }
+
+        return query.with(Sort.by(direction, sortKey, "_id")).limit(limit);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.garbageapp.repository;
+
+import com.example.garbageapp.dto.ScheduleFilterDTO;
+import com.example.garbageapp.model.Schedule;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ScheduleRepositoryCustom {
+    Page<Schedule> filter(ScheduleFilterDTO filter, Pageable pageable);
+    Slice<Schedule> filterSlice(ScheduleFilterDTO filter, Pageable pageable);
+    long countFiltered(ScheduleFilterDTO filter);
+    Stream<Schedule> streamFiltered(ScheduleFilterDTO filter, int batchSize);
+    List<Schedule> findPageAfter(String areaId, LocalDateTime pickupDate, String id, int limit);
+}
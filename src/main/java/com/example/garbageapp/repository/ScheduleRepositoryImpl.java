@@ -0,0 +1,122 @@
+package com.example.garbageapp.repository;
+
+import com.example.garbageapp.dto.ScheduleFilterDTO;
+import com.example.garbageapp.model.Schedule;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class ScheduleRepositoryImpl implements ScheduleRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ScheduleRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Page<Schedule> filter(ScheduleFilterDTO filter, Pageable pageable) {
+        Query query = filterQuery(filter).with(pageable);
+        List<Schedule> content = mongoTemplate.find(query, Schedule.class);
+
+        // The count reuses the same predicate without sort, skip or limit
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(filterQuery(filter), Schedule.class));
+    }
+
+    @Override
+    public Slice<Schedule> filterSlice(ScheduleFilterDTO filter, Pageable pageable) {
+        // One extra document tells whether another page exists without counting
+        Query query = filterQuery(filter)
+                .with(pageable.getSort())
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+        List<Schedule> content = mongoTemplate.find(query, Schedule.class);
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public long countFiltered(ScheduleFilterDTO filter) {
+        return mongoTemplate.count(filterQuery(filter), Schedule.class);
+    }
+
+    @Override
+    public Stream<Schedule> streamFiltered(ScheduleFilterDTO filter, int batchSize) {
+        // Reads through a server cursor so callers never hold more than one batch. Exports cover exactly
+        // the dates asked for: no dates means every schedule, not the listing's one-month window
+        Query query = exportQuery(filter)
+                .with(Sort.by(Sort.Direction.ASC, "pickupDate", "_id"))
+                .cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, Schedule.class);
+    }
+
+    @Override
+    public List<Schedule> findPageAfter(String areaId, LocalDateTime pickupDate, String id, int limit) {
+        Query query = new Query();
+        if (areaId != null) {
+            query.addCriteria(Criteria.where("areaId").is(areaId));
+        }
+
+        return mongoTemplate.find(
+                KeysetQuery.after(query, "pickupDate", Sort.Direction.ASC, pickupDate, id, limit),
+                Schedule.class);
+    }
+
+    static Query filterQuery(ScheduleFilterDTO filter) {
+        // Without explicit dates the filter covers today through one month ahead
+        LocalDateTime startDateTime = filter.getStartDate() != null ?
+                filter.getStartDate().atStartOfDay() : LocalDate.now().atStartOfDay();
+
+        LocalDateTime endDateTime = filter.getEndDate() != null ?
+                filter.getEndDate().atTime(LocalTime.MAX) : LocalDate.now().plusMonths(1).atTime(LocalTime.MAX);
+
+        return criteriaQuery(filter, startDateTime, endDateTime);
+    }
+
+    static Query exportQuery(ScheduleFilterDTO filter) {
+        LocalDateTime startDateTime = filter.getStartDate() != null ? filter.getStartDate().atStartOfDay() : null;
+        LocalDateTime endDateTime = filter.getEndDate() != null ? filter.getEndDate().atTime(LocalTime.MAX) : null;
+
+        return criteriaQuery(filter, startDateTime, endDateTime);
+    }
+
+    private static Query criteriaQuery(ScheduleFilterDTO filter, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Query query = new Query();
+
+        if (filter.getAreaId() != null) {
+            query.addCriteria(Criteria.where("areaId").is(filter.getAreaId()));
+        }
+        if (filter.getType() != null) {
+            query.addCriteria(Criteria.where("type").is(filter.getType()));
+        }
+        if (startDateTime != null || endDateTime != null) {
+            Criteria pickupDate = Criteria.where("pickupDate");
+            if (startDateTime != null) {
+                pickupDate.gte(startDateTime);
+            }
+            if (endDateTime != null) {
+                pickupDate.lte(endDateTime);
+            }
+            query.addCriteria(pickupDate);
+        }
+
+        return query;
+    }
+}
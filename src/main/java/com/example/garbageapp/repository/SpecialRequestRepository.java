@@ -3,18 +3,37 @@ package com.example.garbageapp.repository;
 import com.example.garbageapp.model.SpecialRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.time.LocalDate;
 import java.util.List;
 
-public interface SpecialRequestRepository extends MongoRepository<SpecialRequest, String> {
+public interface SpecialRequestRepository extends MongoRepository<SpecialRequest, String>, SpecialRequestRepositoryCustom {
     List<SpecialRequest> findByUserId(String userId);
     Page<SpecialRequest> findByUserId(String userId, Pageable pageable);
+    Slice<SpecialRequest> findSliceByUserId(String userId, Pageable pageable);
+    Slice<SpecialRequest> findSliceBy(Pageable pageable);
     List<SpecialRequest> findByAreaId(String areaId);
     Page<SpecialRequest> findByAreaId(String areaId, Pageable pageable);
     List<SpecialRequest> findByStatus(SpecialRequest.RequestStatus status);
     Page<SpecialRequest> findByStatus(SpecialRequest.RequestStatus status, Pageable pageable);
     List<SpecialRequest> findByRequestDateBetween(LocalDate start, LocalDate end);
     List<SpecialRequest> findByUserIdAndStatus(String userId, SpecialRequest.RequestStatus status);
+    long countByUserId(String userId);
+    long countByStatus(SpecialRequest.RequestStatus status);
+    long countByUserIdAndStatus(String userId, SpecialRequest.RequestStatus status);
+    
+    @Aggregation("{ $group: { _id: '$status', count: { $sum: 1 } } }")
+    List<GroupCount> countGroupedByStatus();
+    
+    // Uses the zone snapshot and only falls back to areas for requests written before it existed
+    @Aggregation({
+        "{ $group: { _id: '$areaId', zone: { $first: '$zone' }, count: { $sum: 1 } } }",
+        "{ $lookup: { from: 'areas', let: { areaId: { $convert: { input: '$_id', to: 'objectId', onError: null, onNull: null } } }, pipeline: [ { $match: { $expr: { $eq: [ '$_id', '$$areaId' ] } } }, { $project: { zone: 1 } } ], as: 'area' } }",
+        "{ $group: { _id: { $ifNull: [ '$zone', { $arrayElemAt: [ '$area.zone', 0 ] } ] }, count: { $sum: '$count' } } }",
+        "{ $match: { _id: { $ne: null } } }"
+    })
+    List<GroupCount> countGroupedByZone();
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.garbageapp.repository;
+
+import com.example.garbageapp.dto.RequestFilterDTO;
+import com.example.garbageapp.model.SpecialRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface SpecialRequestRepositoryCustom {
+    Page<SpecialRequest> filter(RequestFilterDTO filter, Pageable pageable);
+    Slice<SpecialRequest> filterSlice(RequestFilterDTO filter, Pageable pageable);
+    long countFiltered(RequestFilterDTO filter);
+    Stream<SpecialRequest> streamFiltered(RequestFilterDTO filter, int batchSize);
+    Optional<SpecialRequest> transitionPending(String id, String userId, SpecialRequest.RequestStatus status,
+                                               String adminNote);
+    long updatePendingStatus(Collection<String> ids, SpecialRequest.RequestStatus status, String adminNote);
+    long updatePendingStatus(RequestFilterDTO filter, SpecialRequest.RequestStatus status, String adminNote);
+    List<SpecialRequest> findPageAfter(String userId, LocalDate requestDate, String id, int limit);
+}
@@ -0,0 +1,154 @@
+package com.example.garbageapp.repository;
+
+import com.example.garbageapp.dto.RequestFilterDTO;
+import com.example.garbageapp.model.SpecialRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class SpecialRequestRepositoryImpl implements SpecialRequestRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public SpecialRequestRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Page<SpecialRequest> filter(RequestFilterDTO filter, Pageable pageable) {
+        Query query = filterQuery(filter).with(pageable);
+        List<SpecialRequest> content = mongoTemplate.find(query, SpecialRequest.class);
+
+        // The count reuses the same predicate without sort, skip or limit
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> mongoTemplate.count(filterQuery(filter), SpecialRequest.class));
+    }
+
+    @Override
+    public Slice<SpecialRequest> filterSlice(RequestFilterDTO filter, Pageable pageable) {
+        // One extra document tells whether another page exists without counting
+        Query query = filterQuery(filter)
+                .with(pageable.getSort())
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+        List<SpecialRequest> content = mongoTemplate.find(query, SpecialRequest.class);
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public long countFiltered(RequestFilterDTO filter) {
+        return mongoTemplate.count(filterQuery(filter), SpecialRequest.class);
+    }
+
+    @Override
+    public Stream<SpecialRequest> streamFiltered(RequestFilterDTO filter, int batchSize) {
+        // Reads through a server cursor so callers never hold more than one batch
+        Query query = filterQuery(filter)
+                .with(Sort.by(Sort.Direction.DESC, "requestDate", "_id"))
+                .cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, SpecialRequest.class);
+    }
+
+    @Override
+    public Optional<SpecialRequest> transitionPending(String id, String userId, SpecialRequest.RequestStatus status,
+                                                      String adminNote) {
+        // Match, check and write happen in one atomic command; empty means another transition won or no match
+        Query query = Query.query(Criteria.where("_id").is(id).and("status").is(SpecialRequest.RequestStatus.PENDING));
+        if (userId != null) {
+            query.addCriteria(Criteria.where("userId").is(userId));
+        }
+        Update update = new Update()
+                .set("status", status)
+                .set("adminNote", adminNote)
+                .set("updatedAt", LocalDateTime.now());
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), SpecialRequest.class));
+    }
+
+    @Override
+    public long updatePendingStatus(Collection<String> ids, SpecialRequest.RequestStatus status, String adminNote) {
+        return updatePending(Query.query(Criteria.where("_id").in(ids)), status, adminNote);
+    }
+
+    @Override
+    public long updatePendingStatus(RequestFilterDTO filter, SpecialRequest.RequestStatus status, String adminNote) {
+        // A status in the filter can only narrow the selection to pending requests or to nothing
+        if (filter.getStatus() != null && filter.getStatus() != SpecialRequest.RequestStatus.PENDING) {
+            return 0;
+        }
+        return updatePending(filterQuery(filter), status, adminNote);
+    }
+
+    // The PENDING predicate makes the transition safe against requests processed concurrently
+    private long updatePending(Query query, SpecialRequest.RequestStatus status, String adminNote) {
+        if (!query.getQueryObject().containsKey("status")) {
+            query.addCriteria(Criteria.where("status").is(SpecialRequest.RequestStatus.PENDING));
+        }
+        Update update = new Update()
+                .set("status", status)
+                .set("adminNote", adminNote)
+                .set("updatedAt", LocalDateTime.now());
+        return mongoTemplate.updateMulti(query, update, SpecialRequest.class).getModifiedCount();
+    }
+
+    @Override
+    public List<SpecialRequest> findPageAfter(String userId, LocalDate requestDate, String id, int limit) {
+        Query query = new Query();
+        if (userId != null) {
+            query.addCriteria(Criteria.where("userId").is(userId));
+        }
+
+        return mongoTemplate.find(
+                KeysetQuery.after(query, "requestDate", Sort.Direction.DESC, requestDate, id, limit),
+                SpecialRequest.class);
+    }
+
+    static Query filterQuery(RequestFilterDTO filter) {
+        Query query = new Query();
+
+        if (filter.getUserId() != null) {
+            query.addCriteria(Criteria.where("userId").is(filter.getUserId()));
+        }
+        if (filter.getAreaId() != null) {
+            query.addCriteria(Criteria.where("areaId").is(filter.getAreaId()));
+        }
+        if (filter.getStatus() != null) {
+            query.addCriteria(Criteria.where("status").is(filter.getStatus()));
+        }
+
+        // Either bound of the date range may be given on its own; both are inclusive
+        if (filter.getStartDate() != null || filter.getEndDate() != null) {
+            Criteria requestDate = Criteria.where("requestDate");
+            if (filter.getStartDate() != null) {
+                requestDate.gte(filter.getStartDate());
+            }
+            if (filter.getEndDate() != null) {
+                requestDate.lte(filter.getEndDate());
+            }
+            query.addCriteria(requestDate);
+        }
+
+        return query;
+    }
+}
@@ -1,12 +1,15 @@
 package com.example.garbageapp.repository;
 
 import com.example.garbageapp.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
 
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
     Optional<User> findByEmail(String email);
+    Slice<User> findSliceBy(Pageable pageable);
     boolean existsByEmail(String email);
     boolean existsByPhoneNumber(String phoneNumber);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.example.garbageapp.repository;
+
+import com.example.garbageapp.model.User;
+
+import java.util.List;
+
+public interface UserRepositoryCustom {
+    List<User> findPageAfter(String fullName, String id, int limit);
+}
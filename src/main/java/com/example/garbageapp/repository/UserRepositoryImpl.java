@@ -0,0 +1,24 @@
+package com.example.garbageapp.repository;
+
+import com.example.garbageapp.model.User;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public UserRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<User> findPageAfter(String fullName, String id, int limit) {
+        return mongoTemplate.find(
+                KeysetQuery.after(new Query(), "fullName", Sort.Direction.ASC, fullName, id, limit),
+                User.class);
+    }
+}
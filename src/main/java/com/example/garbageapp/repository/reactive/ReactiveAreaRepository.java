@@ -0,0 +1,7 @@
+package com.example.garbageapp.repository.reactive;
+
+import com.example.garbageapp.model.Area;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactiveAreaRepository extends ReactiveMongoRepository<Area, String> {
+}
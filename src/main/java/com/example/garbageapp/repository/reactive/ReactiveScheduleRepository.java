@@ -0,0 +1,15 @@
+package com.example.garbageapp.repository.reactive;
+
+import com.example.garbageapp.model.Schedule;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface ReactiveScheduleRepository extends ReactiveMongoRepository<Schedule, String> {
+    Flux<Schedule> findByAreaId(String areaId, Pageable pageable);
+    Mono<Long> countByAreaId(String areaId);
+    Mono<Long> countByPickupDateBetween(LocalDateTime start, LocalDateTime end);
+}
@@ -0,0 +1,13 @@
+package com.example.garbageapp.repository.reactive;
+
+import com.example.garbageapp.model.SpecialRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveSpecialRequestRepository extends ReactiveMongoRepository<SpecialRequest, String> {
+    Flux<SpecialRequest> findByUserId(String userId, Pageable pageable);
+    Mono<Long> countByUserId(String userId);
+    Mono<Long> countByUserIdAndStatus(String userId, SpecialRequest.RequestStatus status);
+}
@@ -0,0 +1,27 @@
+package com.example.garbageapp.security;
+
+import com.example.garbageapp.exception.UnauthorizedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CurrentUserProvider {
+
+    // The principal set by JwtAuthenticationFilter already carries id, name and roles, so no lookup is needed
+    public UserDetailsImpl getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+            throw new UnauthorizedException("User not authenticated");
+        }
+        return userDetails;
+    }
+
+    public String getCurrentUserId() {
+        return getCurrentUser().getId();
+    }
+
+    public boolean isCurrentUserAdmin() {
+        return getCurrentUser().isAdmin();
+    }
+}
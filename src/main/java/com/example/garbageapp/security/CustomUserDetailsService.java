@@ -12,17 +12,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomUserDetailsService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
     
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-        
-        return UserDetailsImpl.build(user);
+        // Authenticated requests resolve their principal from the cache instead of querying users each time
+        return userDetailsCache.get(email, key -> {
+            User user = userRepository.findByEmail(key)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + key));
+            
+            return UserDetailsImpl.build(user);
+        });
     }
 }
\ No newline at end of file
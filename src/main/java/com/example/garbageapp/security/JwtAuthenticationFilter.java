@@ -1,5 +1,6 @@
 package com.example.garbageapp.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +16,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -34,8 +36,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String userEmail = jwtTokenProvider.extractUsername(jwt);
+            Optional<Claims> claims = StringUtils.hasText(jwt) ? jwtTokenProvider.verify(jwt) : Optional.empty();
+
+            if (claims.isPresent()) {
+                String userEmail = claims.get().getSubject();
 
                 UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
                 
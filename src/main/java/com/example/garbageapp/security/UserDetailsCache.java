@@ -0,0 +1,31 @@
+package com.example.garbageapp.security;
+
+import com.example.garbageapp.config.SecurityCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public UserDetailsCache(SecurityCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getPrincipalMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getPrincipalTtlSeconds()))
+                .build();
+    }
+
+    public UserDetailsImpl get(String email, Function<String, UserDetailsImpl> loader) {
+        return cache.get(email, loader);
+    }
+
+    // Must be called whenever roles, active flag, email or password change so revocation is immediate
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+}
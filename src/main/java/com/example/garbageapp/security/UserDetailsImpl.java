@@ -1,13 +1,16 @@
 package com.example.garbageapp.security;
 
+import com.example.garbageapp.model.Role;
 import com.example.garbageapp.model.User;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class UserDetailsImpl implements UserDetails {
@@ -18,17 +21,21 @@ public class UserDetailsImpl implements UserDetails {
     @JsonIgnore
     private final String password;
     private final String fullName;
+    private final String phoneNumber;
     private final Collection<? extends GrantedAuthority> authorities;
     private final boolean active;
+    private final LocalDateTime createdAt;
 
-    public UserDetailsImpl(String id, String email, String password, String fullName,
-                         Collection<? extends GrantedAuthority> authorities, boolean active) {
+    public UserDetailsImpl(String id, String email, String password, String fullName, String phoneNumber,
+                         Collection<? extends GrantedAuthority> authorities, boolean active, LocalDateTime createdAt) {
         this.id = id;
         this.email = email;
         this.password = password;
         this.fullName = fullName;
+        this.phoneNumber = phoneNumber;
         this.authorities = authorities;
         this.active = active;
+        this.createdAt = createdAt;
     }
 
     public static UserDetailsImpl build(User user) {
@@ -41,8 +48,10 @@ public class UserDetailsImpl implements UserDetails {
                 user.getEmail(),
                 user.getPassword(),
                 user.getFullName(),
+                user.getPhoneNumber(),
                 authorities,
-                user.isActive());
+                user.isActive(),
+                user.getCreatedAt());
     }
 
     public String getId() {
@@ -53,6 +62,25 @@ public class UserDetailsImpl implements UserDetails {
         return fullName;
     }
 
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Set<Role> getRoles() {
+        return authorities.stream()
+                .map(authority -> Role.valueOf(authority.getAuthority()))
+                .collect(Collectors.toSet());
+    }
+
+    public boolean isAdmin() {
+        return authorities.stream()
+                .anyMatch(authority -> authority.getAuthority().equals(Role.ROLE_ADMIN.name()));
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
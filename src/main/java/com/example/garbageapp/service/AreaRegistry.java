@@ -0,0 +1,143 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.repository.AreaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// In-memory view of all areas. Readers always see a complete immutable snapshot that refreshes swap atomically;
+// the Area instances are shared and must be treated as read-only.
+@Component
+public class AreaRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(AreaRegistry.class);
+
+    private final AreaRepository areaRepository;
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    // Ids recently looked up and not found, so a bogus or deleted id cannot force a read per request
+    private final Cache<String, Boolean> missingIds;
+
+    public AreaRegistry(AreaRepository areaRepository,
+                        @Value("${app.areas.registry.missing-id-ttl-seconds:30}") long missingIdTtlSeconds) {
+        this.areaRepository = areaRepository;
+        this.missingIds = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(missingIdTtlSeconds))
+                .build();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.warn("Could not load area registry at startup: {}", e.getMessage());
+        }
+    }
+
+    // Picks up areas changed through other instances
+    @Scheduled(fixedDelayString = "${app.areas.registry.refresh-interval-ms:300000}",
+            initialDelayString = "${app.areas.registry.refresh-interval-ms:300000}")
+    public void periodicRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.warn("Could not refresh area registry: {}", e.getMessage());
+        }
+    }
+
+    public void refresh() {
+        long version = versions.incrementAndGet();
+        Snapshot next = Snapshot.of(version, areaRepository.findAll(Sort.by("name").ascending()));
+
+        // A slower refresh that started earlier must not overwrite a newer snapshot
+        snapshot.accumulateAndGet(next, (current, candidate) ->
+                current == null || current.version() < candidate.version() ? candidate : current);
+        missingIds.invalidateAll();
+    }
+
+    public Optional<Area> findById(String id) {
+        Area area = current().byId().get(id);
+        if (area != null) {
+            return Optional.of(area);
+        }
+
+        if (missingIds.getIfPresent(id) != null) {
+            return Optional.empty();
+        }
+
+        // The area may have been created on another instance since the last refresh
+        Optional<Area> stored = areaRepository.findById(id);
+        if (stored.isPresent()) {
+            refresh();
+        } else {
+            missingIds.put(id, Boolean.TRUE);
+        }
+        return stored;
+    }
+
+    // Never touches the database, for callers that must not block
+    public Optional<Area> findLoaded(String id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public boolean exists(String id) {
+        return findById(id).isPresent();
+    }
+
+    public List<Area> getAll() {
+        return current().byName();
+    }
+
+    public List<Area> getByZone(String zone) {
+        return current().byZone().getOrDefault(zone, List.of());
+    }
+
+    public Set<String> getIds() {
+        return current().byId().keySet();
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot.get();
+        if (loaded == null) {
+            refresh();
+            loaded = snapshot.get();
+        }
+        return loaded;
+    }
+
+    record Snapshot(long version, Map<String, Area> byId, List<Area> byName, Map<String, List<Area>> byZone) {
+
+        static Snapshot of(long version, List<Area> areas) {
+            Map<String, Area> byId = areas.stream()
+                    .collect(Collectors.toUnmodifiableMap(Area::getId, Function.identity()));
+            Map<String, List<Area>> byZone = areas.stream()
+                    .filter(area -> area.getZone() != null)
+                    .collect(Collectors.groupingBy(Area::getZone,
+                            Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+
+            return new Snapshot(version, byId, List.copyOf(areas), Map.copyOf(byZone));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.garbageapp.service;
 
 import com.example.garbageapp.dto.AreaDTO;
 import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.dto.TotalMode;
 import com.example.garbageapp.exception.BadRequestException;
 import com.example.garbageapp.exception.ResourceNotFoundException;
 import com.example.garbageapp.model.Area;
@@ -9,19 +10,36 @@ import com.example.garbageapp.repository.AreaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 public class AreaService {
 
     private final AreaRepository areaRepository;
+    private final AreaRegistry areaRegistry;
+    private final AreaSnapshotUpdater areaSnapshotUpdater;
+    private final DashboardCounterService dashboardCounterService;
+    private final PageTotals pageTotals;
+    private final ScheduleMaterializer scheduleMaterializer;
     
-    public AreaService(AreaRepository areaRepository) {
+    public AreaService(AreaRepository areaRepository,
+                       AreaRegistry areaRegistry,
+                       AreaSnapshotUpdater areaSnapshotUpdater,
+                       DashboardCounterService dashboardCounterService,
+                       PageTotals pageTotals,
+                       ScheduleMaterializer scheduleMaterializer) {
         this.areaRepository = areaRepository;
+        this.areaRegistry = areaRegistry;
+        this.areaSnapshotUpdater = areaSnapshotUpdater;
+        this.dashboardCounterService = dashboardCounterService;
+        this.pageTotals = pageTotals;
+        this.scheduleMaterializer = scheduleMaterializer;
     }
     
     public AreaDTO createArea(AreaDTO areaDTO) {
@@ -35,6 +53,9 @@ public class AreaService {
         area.setPickupDays(areaDTO.getPickupDays());
         
         Area savedArea = areaRepository.save(area);
+        areaRegistry.refresh();
+        dashboardCounterService.areaCreated();
+        scheduleMaterializer.regenerateArea(savedArea.getId());
         
         return mapToDTO(savedArea);
     }
@@ -46,8 +67,16 @@ public class AreaService {
         return mapToDTO(area);
     }
     
-    public PagedResponse<AreaDTO> getAllAreas(int page, int size) {
+    public PagedResponse<AreaDTO> getAllAreas(int page, int size, TotalMode totalMode) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("name").ascending());
+        if (totalMode != TotalMode.EXACT) {
+            Slice<Area> areaSlice = areaRepository.findSliceBy(pageable);
+            List<AreaDTO> content = areaSlice.getContent().stream()
+                    .map(this::mapToDTO)
+                    .collect(Collectors.toList());
+            return PagedResponse.of(areaSlice, content, pageTotals.unfiltered(totalMode, Area.class));
+        }
+        
         Page<Area> areaPage = areaRepository.findAll(pageable);
         
         List<AreaDTO> content = areaPage.getContent().stream()
@@ -65,14 +94,14 @@ public class AreaService {
     }
     
     public List<AreaDTO> getAllAreasNoPaging() {
-        return areaRepository.findAll(Sort.by("name").ascending())
+        return areaRegistry.getAll()
                 .stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
     
     public List<AreaDTO> getAreasByZone(String zone) {
-        return areaRepository.findByZone(zone)
+        return areaRegistry.getByZone(zone)
                 .stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
@@ -87,11 +116,25 @@ public class AreaService {
             throw new BadRequestException("Area with name " + areaDTO.getName() + " already exists");
         }
         
+        String previousZone = area.getZone();
+        boolean pickupDaysChanged = !Objects.equals(area.getPickupDays(), areaDTO.getPickupDays());
+        boolean snapshotChanged = !area.getName().equals(areaDTO.getName())
+                || !Objects.equals(previousZone, areaDTO.getZone());
+        
         area.setName(areaDTO.getName());
         area.setZone(areaDTO.getZone());
         area.setPickupDays(areaDTO.getPickupDays());
         
         Area updatedArea = areaRepository.save(area);
+        areaRegistry.refresh();
+        
+        // Fan the new name/zone out to schedules and requests in the background
+        if (snapshotChanged) {
+            areaSnapshotUpdater.propagate(updatedArea.getId());
+        }
+        if (pickupDaysChanged) {
+            scheduleMaterializer.regenerateArea(updatedArea.getId());
+        }
         
         return mapToDTO(updatedArea);
     }
@@ -102,6 +145,9 @@ public class AreaService {
         }
         
         areaRepository.deleteById(id);
+        areaRegistry.refresh();
+        dashboardCounterService.areaDeleted();
+        scheduleMaterializer.regenerateArea(id);
     }
     
     private AreaDTO mapToDTO(Area area) {
@@ -0,0 +1,128 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Schedule;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.repository.AreaRepository;
+import com.mongodb.client.result.UpdateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class AreaSnapshotUpdater {
+
+    private static final Logger logger = LoggerFactory.getLogger(AreaSnapshotUpdater.class);
+    private static final int LOCK_STRIPES = 64;
+
+    private final MongoTemplate mongoTemplate;
+    private final AreaRepository areaRepository;
+    private final DashboardCounterService dashboardCounterService;
+    // Striped rather than one lock per area id, so the set stays bounded however many areas come and go
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public AreaSnapshotUpdater(MongoTemplate mongoTemplate,
+                               AreaRepository areaRepository,
+                               DashboardCounterService dashboardCounterService) {
+        this.mongoTemplate = mongoTemplate;
+        this.areaRepository = areaRepository;
+        this.dashboardCounterService = dashboardCounterService;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Propagates are serialized per area and each pass reads the area as it is stored now, so when two
+     * quick renames race the later pass never writes an older name or zone back. A second pass picks up
+     * documents that were written with the previous snapshot while the first one was running. The lock is
+     * a ReentrantLock, not a monitor, so a virtual thread waiting on Mongo inside it does not pin its carrier.
+     */
+    @Async
+    public void propagate(String areaId) {
+        ReentrantLock lock = locks[Math.floorMod(areaId.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            int schedules = 0;
+            int requests = 0;
+            for (int pass = 0; pass < 2; pass++) {
+                Area area = areaRepository.findById(areaId).orElse(null);
+                if (area == null) {
+                    return;
+                }
+                schedules += applySnapshot(area, Schedule.class);
+                requests += applyRequestSnapshot(area);
+            }
+            logger.info("Propagated area {} snapshot to {} schedules and {} special requests",
+                    areaId, schedules, requests);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int applySnapshot(Area area, Class<?> entityClass) {
+        UpdateResult result = mongoTemplate.updateMulti(staleQuery(area), snapshotUpdate(area), entityClass);
+        return (int) result.getModifiedCount();
+    }
+
+    // Requests are moved one zone at a time so the zone counters follow exactly the documents that changed.
+    // Requests without a zone were never counted under one, so moving them only adds to the new zone
+    private int applyRequestSnapshot(Area area) {
+        int modified = 0;
+        Query staleZones = Query.query(Criteria.where("areaId").is(area.getId()).and("zone").ne(area.getZone()));
+        List<String> zones = new ArrayList<>(
+                mongoTemplate.findDistinct(staleZones, "zone", SpecialRequest.class, String.class));
+        zones.removeIf(Objects::isNull);
+        if (area.getZone() != null) {
+            zones.add(null);
+        }
+        for (String zone : zones) {
+            // is(null) also matches requests that have no zone field at all
+            UpdateResult moved = mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("areaId").is(area.getId()).and("zone").is(zone)),
+                    snapshotUpdate(area), SpecialRequest.class);
+            dashboardCounterService.requestsMovedZone(zone, area.getZone(), moved.getModifiedCount());
+            modified += (int) moved.getModifiedCount();
+        }
+        return modified + applySnapshot(area, SpecialRequest.class);
+    }
+
+    private Query staleQuery(Area area) {
+        return Query.query(Criteria.where("areaId").is(area.getId()).orOperator(
+                Criteria.where("areaName").ne(area.getName()),
+                Criteria.where("zone").ne(area.getZone())));
+    }
+
+    private Update snapshotUpdate(Area area) {
+        return new Update().set("areaName", area.getName()).set("zone", area.getZone());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingSnapshots() {
+        // Documents written before snapshots existed still need their area name and zone
+        try {
+            for (Area area : areaRepository.findAll()) {
+                Query query = Query.query(Criteria.where("areaId").is(area.getId()).and("areaName").exists(false));
+                Update update = new Update().set("areaName", area.getName()).set("zone", area.getZone());
+
+                mongoTemplate.updateMulti(query, update, Schedule.class);
+                mongoTemplate.updateMulti(query, update, SpecialRequest.class);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not backfill area snapshots: {}", e.getMessage());
+        }
+    }
+}
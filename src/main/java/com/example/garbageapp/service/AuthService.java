@@ -9,6 +9,7 @@ import com.example.garbageapp.model.User;
 import com.example.garbageapp.repository.UserRepository;
 import com.example.garbageapp.security.JwtTokenProvider;
 import com.example.garbageapp.security.UserDetailsImpl;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,19 +20,23 @@ import org.springframework.stereotype.Service;
 import java.util.Collections;
 
 @Service
+@Timed("app.service")
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final DashboardCounterService dashboardCounterService;
 
     public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-                      AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider) {
+                      AuthenticationManager authenticationManager, JwtTokenProvider tokenProvider,
+                      DashboardCounterService dashboardCounterService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.tokenProvider = tokenProvider;
+        this.dashboardCounterService = dashboardCounterService;
     }
     
     public AuthResponse register(RegisterRequest registerRequest) {
@@ -54,6 +59,7 @@ public class AuthService {
         user.setRoles(Collections.singleton(Role.ROLE_USER)); // Default role
         
         User savedUser = userRepository.save(user);
+        dashboardCounterService.userCreated();
         
         // Generate tokens
         String token = tokenProvider.generateToken(savedUser.getEmail());
@@ -83,14 +89,11 @@ public class AuthService {
         String token = tokenProvider.generateToken(authentication);
         String refreshToken = tokenProvider.generateRefreshToken(userDetails.getUsername());
         
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new BadRequestException("User not found"));
-        
         return AuthResponse.builder()
                 .id(userDetails.getId())
                 .fullName(userDetails.getFullName())
                 .email(userDetails.getUsername())
-                .roles(user.getRoles())
+                .roles(userDetails.getRoles())
                 .token(token)
                 .refreshToken(refreshToken)
                 .build();
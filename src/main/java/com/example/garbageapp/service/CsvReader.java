@@ -0,0 +1,89 @@
+package com.example.garbageapp.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks
+final class CsvReader {
+
+    private final Reader reader;
+    private int peeked = -2;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Returns null at end of input; blank lines are skipped
+    List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean sawAny = false;
+
+        int c;
+        while ((c = read()) != -1) {
+            sawAny = true;
+            if (quoted) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (fields.isEmpty() && field.length() == 0) {
+                    sawAny = false;
+                    continue;
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        if (quoted) {
+            throw new MalformedCsvException("Unterminated quoted field");
+        }
+        if (!sawAny) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    static final class MalformedCsvException extends IOException {
+        MalformedCsvException(String message) {
+            super(message);
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.model.DashboardCounters;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.repository.AreaRepository;
+import com.example.garbageapp.repository.GroupCount;
+import com.example.garbageapp.repository.SpecialRequestRepository;
+import com.example.garbageapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class DashboardCounterService {
+
+    static final String COUNTERS_ID = "global";
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardCounterService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final AreaRepository areaRepository;
+    private final SpecialRequestRepository specialRequestRepository;
+
+    public DashboardCounterService(MongoTemplate mongoTemplate,
+                                   UserRepository userRepository,
+                                   AreaRepository areaRepository,
+                                   SpecialRequestRepository specialRequestRepository) {
+        this.mongoTemplate = mongoTemplate;
+        this.userRepository = userRepository;
+        this.areaRepository = areaRepository;
+        this.specialRequestRepository = specialRequestRepository;
+    }
+
+    public DashboardCounters getCounters() {
+        DashboardCounters counters = mongoTemplate.findById(COUNTERS_ID, DashboardCounters.class);
+        if (counters == null || counters.getRebuiltAt() == null) {
+            return rebuild();
+        }
+        return decoded(counters);
+    }
+
+    public void requestCreated(SpecialRequest request) {
+        Update update = new Update()
+                .inc("totalRequests", 1)
+                .inc("requestsByStatus." + request.getStatus().name(), 1);
+        if (request.getZone() != null) {
+            update.inc("requestsByZone." + fieldKey(request.getZone()), 1);
+        }
+        increment(update);
+    }
+
+    public void requestDeleted(SpecialRequest request) {
+        Update update = new Update()
+                .inc("totalRequests", -1)
+                .inc("requestsByStatus." + request.getStatus().name(), -1);
+        if (request.getZone() != null) {
+            update.inc("requestsByZone." + fieldKey(request.getZone()), -1);
+        }
+        increment(update);
+    }
+
+    public void requestStatusChanged(SpecialRequest.RequestStatus from, SpecialRequest.RequestStatus to, long count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        increment(new Update()
+                .inc("requestsByStatus." + from.name(), -count)
+                .inc("requestsByStatus." + to.name(), count));
+    }
+
+    public void requestsMovedZone(String fromZone, String toZone, long count) {
+        if (count == 0) {
+            return;
+        }
+        Update update = new Update();
+        if (fromZone != null) {
+            update.inc("requestsByZone." + fieldKey(fromZone), -count);
+        }
+        if (toZone != null) {
+            update.inc("requestsByZone." + fieldKey(toZone), count);
+        }
+        increment(update);
+    }
+
+    public void userCreated() {
+        increment(new Update().inc("totalUsers", 1));
+    }
+
+    public void areaCreated() {
+        increment(new Update().inc("totalAreas", 1));
+    }
+
+    public void areaDeleted() {
+        increment(new Update().inc("totalAreas", -1));
+    }
+
+    @Scheduled(cron = "${app.dashboard.counters.reconcile-cron:0 0 3 * * *}")
+    public void reconcile() {
+        DashboardCounters counters = rebuild();
+        logger.info("Reconciled dashboard counters: {} users, {} areas, {} requests",
+                counters.getTotalUsers(), counters.getTotalAreas(), counters.getTotalRequests());
+    }
+
+    // Written as the difference to the stored values, so increments that land while counting are kept
+    // rather than overwritten; the next reconcile settles any request counted by both
+    public DashboardCounters rebuild() {
+        DashboardCounters stored = mongoTemplate.findById(COUNTERS_ID, DashboardCounters.class);
+        if (stored == null) {
+            stored = new DashboardCounters();
+        }
+
+        Update update = new Update()
+                .inc("totalUsers", userRepository.count() - stored.getTotalUsers())
+                .inc("totalAreas", areaRepository.count() - stored.getTotalAreas())
+                .inc("totalRequests", specialRequestRepository.count() - stored.getTotalRequests())
+                .set("rebuiltAt", LocalDateTime.now());
+        incrementBy(update, "requestsByStatus", toMap(specialRequestRepository.countGroupedByStatus()),
+                stored.getRequestsByStatus());
+        incrementBy(update, "requestsByZone", toMap(specialRequestRepository.countGroupedByZone()),
+                stored.getRequestsByZone());
+
+        DashboardCounters rebuilt = mongoTemplate.findAndModify(Query.query(Criteria.where("_id").is(COUNTERS_ID)),
+                update, FindAndModifyOptions.options().returnNew(true).upsert(true), DashboardCounters.class);
+        return decoded(rebuilt);
+    }
+
+    private void incrementBy(Update update, String field, Map<String, Long> counted, Map<String, Long> stored) {
+        Map<String, Long> previous = stored != null ? stored : Map.of();
+        counted.forEach((key, count) -> update.inc(field + "." + key, count - previous.getOrDefault(key, 0L)));
+        previous.forEach((key, count) -> {
+            if (!counted.containsKey(key) && count != null && count != 0) {
+                update.inc(field + "." + key, -count);
+            }
+        });
+    }
+
+    private void increment(Update update) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(COUNTERS_ID)), update, DashboardCounters.class);
+    }
+
+    private Map<String, Long> toMap(List<GroupCount> counts) {
+        Map<String, Long> result = new HashMap<>();
+        counts.stream()
+                .filter(count -> count.getKey() != null)
+                .forEach(count -> result.put(fieldKey(count.getKey()), count.getCount()));
+        return result;
+    }
+
+    private DashboardCounters decoded(DashboardCounters counters) {
+        Map<String, Long> byZone = new HashMap<>();
+        if (counters.getRequestsByZone() != null) {
+            counters.getRequestsByZone().forEach((key, count) -> {
+                if (count != null && count != 0) {
+                    byZone.put(fromFieldKey(key), count);
+                }
+            });
+        }
+        counters.setRequestsByZone(byZone);
+        return counters;
+    }
+
+    // Zones are free text but end up as field names in $inc paths, where '.' nests and a leading '$' fails
+    static String fieldKey(String value) {
+        if (value.isEmpty()) {
+            return "%";
+        }
+        return value.replace("%", "%25").replace(".", "%2E").replace("$", "%24");
+    }
+
+    static String fromFieldKey(String key) {
+        if (key.equals("%")) {
+            return "";
+        }
+        return key.replace("%2E", ".").replace("%24", "$").replace("%25", "%");
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.garbageapp.service;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts Mongo commands and their time per scope on the current thread. The blocking driver reports
+ * command events on the thread that issued the command, so a scope opened around a request sees every
+ * query that request made. Scopes nest; a command counts towards every open scope on the thread.
+ * <p>
+ * Commands of the reactive driver complete on driver threads that have no scope, so they are not counted.
+ */
+@Component
+public class DbQueryCounter implements CommandListener {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        record(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        record(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private static void record(long elapsedNanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+            scope.nanos += elapsedNanos;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private int count;
+        private long nanos;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getMillis() {
+            return nanos / 1_000_000.0;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
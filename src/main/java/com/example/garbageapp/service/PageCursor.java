@@ -0,0 +1,79 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+// Opaque keyset cursor: the sort key value and id of the last item of a page. Cursor pages never contain
+// documents without a sort key (see KeysetQuery), so the value is always present.
+record PageCursor(String sortValue, String id) {
+
+    private static final char SEPARATOR = '|';
+    private static final char VALUE_MARKER = '=';
+
+    static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new PageCursor(null, null);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 1 || separator == decoded.length() - 1 || decoded.charAt(0) != VALUE_MARKER) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new PageCursor(decoded.substring(1, separator), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = VALUE_MARKER + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    boolean isStart() {
+        return id == null;
+    }
+
+    LocalDate sortValueAsDate() {
+        return isStart() ? null : parse(LocalDate::parse);
+    }
+
+    LocalDateTime sortValueAsDateTime() {
+        return isStart() ? null : parse(LocalDateTime::parse);
+    }
+
+    private <T> T parse(Function<String, T> parser) {
+        try {
+            return parser.apply(sortValue);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    // Builds a cursor-mode page from size + 1 fetched items; totals are not computed in this mode
+    static <E, D> PagedResponse<D> toPagedResponse(List<E> fetched, int size,
+                                                   Function<E, ?> sortValue, Function<E, String> id,
+                                                   Function<List<E>, List<D>> mapper) {
+        boolean hasMore = fetched.size() > size;
+        List<E> items = hasMore ? fetched.subList(0, size) : fetched;
+
+        String nextCursor = null;
+        if (hasMore) {
+            E lastItem = items.get(items.size() - 1);
+            Object lastValue = Objects.requireNonNull(sortValue.apply(lastItem), "cursor pages exclude null sort keys");
+            nextCursor = new PageCursor(lastValue.toString(), id.apply(lastItem)).encode();
+        }
+
+        return new PagedResponse<>(mapper.apply(items), 0, size, -1, -1, !hasMore, nextCursor);
+    }
+}
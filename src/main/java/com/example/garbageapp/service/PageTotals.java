@@ -0,0 +1,42 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.dto.TotalMode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// Totals for slice-backed listings: none, the collection estimate, or a briefly cached count per filter
+@Component
+public class PageTotals {
+
+    private final MongoTemplate mongoTemplate;
+    private final Cache<String, Long> filteredCounts;
+
+    public PageTotals(MongoTemplate mongoTemplate,
+                      @Value("${app.pagination.approximate-count-ttl-seconds:30}") long ttlSeconds) {
+        this.mongoTemplate = mongoTemplate;
+        this.filteredCounts = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public long unfiltered(TotalMode mode, Class<?> documentType) {
+        if (mode != TotalMode.APPROXIMATE) {
+            return -1;
+        }
+        return mongoTemplate.estimatedCount(documentType);
+    }
+
+    public long filtered(TotalMode mode, String signature, LongSupplier count) {
+        if (mode != TotalMode.APPROXIMATE) {
+            return -1;
+        }
+        return filteredCounts.get(signature, key -> count.getAsLong());
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.garbageapp.service;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a Mongo command to the shape of the query it runs: command, collection and the filter,
+ * sort and pipeline structure with every parameter replaced by {@code ?}. Commands that differ only
+ * in their values share a shape, so their statistics accumulate together.
+ */
+final class QueryShape {
+
+    static final Set<String> TRACKED_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "findAndModify", "update", "delete", "insert", "getMore");
+
+    private static final Set<String> LOGICAL_OPERATORS = Set.of("$and", "$or", "$nor");
+    private static final BsonString PARAMETER = new BsonString("?");
+    private static final Pattern FIELD_PATH = Pattern.compile("\\$\\$?[A-Za-z_][\\w.]*");
+
+    private QueryShape() {
+    }
+
+    static String collection(String commandName, BsonDocument command) {
+        BsonValue target = command.get(commandName.equals("getMore") ? "collection" : commandName);
+        return target != null && target.isString() ? target.asString().getValue() : "";
+    }
+
+    static String of(String commandName, BsonDocument command) {
+        StringBuilder shape = new StringBuilder(commandName).append(' ').append(collection(commandName, command));
+        switch (commandName) {
+            case "find" -> {
+                append(shape, "filter", predicate(command.get("filter")));
+                append(shape, "sort", structure(command.get("sort")));
+                append(shape, "projection", structure(command.get("projection")));
+            }
+            case "aggregate" -> append(shape, "pipeline", pipeline(command.get("pipeline")));
+            case "count" -> append(shape, "query", predicate(command.get("query")));
+            case "distinct" -> {
+                append(shape, "key", structure(command.get("key")));
+                append(shape, "query", predicate(command.get("query")));
+            }
+            case "findAndModify" -> {
+                append(shape, "query", predicate(command.get("query")));
+                append(shape, "sort", structure(command.get("sort")));
+                append(shape, "update", predicate(command.get("update")));
+                append(shape, "remove", structure(command.get("remove")));
+            }
+            case "update" -> {
+                BsonDocument statement = firstStatement(command, "updates");
+                append(shape, "q", predicate(statement.get("q")));
+                append(shape, "u", predicate(statement.get("u")));
+                append(shape, "upsert", structure(statement.get("upsert")));
+            }
+            case "delete" -> append(shape, "q", predicate(firstStatement(command, "deletes").get("q")));
+            default -> {
+                // insert and getMore carry no query of their own
+            }
+        }
+        return shape.toString();
+    }
+
+    static BsonDocument firstStatement(BsonDocument command, String field) {
+        BsonValue statements = command.get(field);
+        if (statements != null && statements.isArray() && !statements.asArray().isEmpty()
+                && statements.asArray().get(0).isDocument()) {
+            return statements.asArray().get(0).asDocument();
+        }
+        return new BsonDocument();
+    }
+
+    // Keeps keys, operators and field paths but replaces every literal with "?", so a logged command
+    // shows how it was built without the emails, password hashes or phone numbers it ran with
+    static BsonValue redact(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument redacted = new BsonDocument();
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                redacted.append(entry.getKey(), redact(entry.getValue()));
+            }
+            return redacted;
+        }
+        if (value.isArray()) {
+            BsonArray redacted = new BsonArray();
+            for (BsonValue item : value.asArray()) {
+                redacted.add(redact(item));
+            }
+            return redacted;
+        }
+        return isFieldPath(value) ? value : PARAMETER;
+    }
+
+    private static void append(StringBuilder shape, String name, String part) {
+        if (part != null) {
+            shape.append(' ').append(name).append('=').append(part);
+        }
+    }
+
+    // Every literal becomes ?, including whole $in lists, so list length does not create new shapes
+    private static String predicate(BsonValue value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder();
+        writePredicate(value, out);
+        return out.toString();
+    }
+
+    private static void writePredicate(BsonValue value, StringBuilder out) {
+        if (value.isDocument()) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (!first) {
+                    out.append(", ");
+                }
+                first = false;
+                out.append(entry.getKey()).append(": ");
+                if (LOGICAL_OPERATORS.contains(entry.getKey()) && entry.getValue().isArray()) {
+                    writeArray(entry.getValue().asArray(), out, true);
+                } else {
+                    writePredicate(entry.getValue(), out);
+                }
+            }
+            out.append('}');
+        } else if (isFieldPath(value)) {
+            out.append(value.asString().getValue());
+        } else {
+            out.append('?');
+        }
+    }
+
+    // Sort orders, projections and non-$match stages keep their literals; dates and ids are still parameters
+    private static String structure(BsonValue value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder();
+        writeStructure(value, out);
+        return out.toString();
+    }
+
+    private static void writeStructure(BsonValue value, StringBuilder out) {
+        if (value.isDocument()) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (!first) {
+                    out.append(", ");
+                }
+                first = false;
+                out.append(entry.getKey()).append(": ");
+                if (entry.getKey().equals("$match")) {
+                    writePredicate(entry.getValue(), out);
+                } else if (entry.getKey().equals("pipeline") && entry.getValue().isArray()) {
+                    out.append(pipeline(entry.getValue()));
+                } else {
+                    writeStructure(entry.getValue(), out);
+                }
+            }
+            out.append('}');
+        } else if (value.isArray()) {
+            writeArray(value.asArray(), out, false);
+        } else if (value.isString()) {
+            out.append(value.asString().getValue());
+        } else if (value.isInt32() || value.isInt64()) {
+            out.append(value.asNumber().longValue());
+        } else if (value.isBoolean()) {
+            out.append(value.asBoolean().getValue());
+        } else {
+            out.append('?');
+        }
+    }
+
+    private static void writeArray(BsonArray array, StringBuilder out, boolean predicate) {
+        out.append('[');
+        for (int i = 0; i < array.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            if (predicate) {
+                writePredicate(array.get(i), out);
+            } else {
+                writeStructure(array.get(i), out);
+            }
+        }
+        out.append(']');
+    }
+
+    private static String pipeline(BsonValue value) {
+        if (value == null || !value.isArray()) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder("[");
+        BsonArray stages = value.asArray();
+        for (int i = 0; i < stages.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            BsonValue stage = stages.get(i);
+            String name = stage.isDocument() && !stage.asDocument().isEmpty() ? stage.asDocument().getFirstKey() : "";
+            if (name.equals("$limit") || name.equals("$skip") || name.equals("$sample")) {
+                out.append('{').append(name).append(": ?}");
+            } else {
+                writeStructure(stage, out);
+            }
+        }
+        return out.append(']').toString();
+    }
+
+    // "$status" or "$$areaId", but not a literal that merely starts with $ such as a bcrypt hash
+    private static boolean isFieldPath(BsonValue value) {
+        return value.isString() && FIELD_PATH.matcher(value.asString().getValue()).matches();
+    }
+}
@@ -0,0 +1,400 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.config.QueryStatsProperties;
+import com.example.garbageapp.dto.QueryShapeStatsDTO;
+import com.example.garbageapp.dto.QueryStatsDTO;
+import com.example.garbageapp.dto.SlowQueryDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import jakarta.annotation.PreDestroy;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cumulative statistics per query shape in the manner of pg_stat_statements, fed by the driver's
+ * command events. Commands slower than the threshold land in a bounded log together with their
+ * explain plan, which is fetched on a background thread at most once per shape and interval.
+ */
+@Component
+public class QueryStatsCollector implements CommandListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatsCollector.class);
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+    private static final Set<String> EXPLAIN_NOISE = Set.of(
+            "command", "serverInfo", "serverParameters", "ok", "$clusterTime", "operationTime");
+    // Command fields that only describe structure; every other field has its literals redacted
+    private static final Set<String> STRUCTURAL_FIELDS = Set.of(
+            "sort", "projection", "hint", "skip", "limit", "collation", "key", "fields", "upsert", "new", "remove",
+            "allowDiskUse", "cursor");
+    // Plan fields that echo the query's values back
+    private static final Set<String> PLAN_LITERAL_FIELDS = Set.of(
+            "parsedQuery", "filter", "indexBounds", "$match", "query", "update", "q", "u", "let");
+    private static final String OTHER_SHAPES = "(other shapes)";
+    private static final JsonWriterSettings JSON = JsonWriterSettings.builder().outputMode(JsonMode.RELAXED).build();
+
+    private final QueryStatsProperties properties;
+    private final ObjectProvider<MongoClient> mongoClient;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final Map<InFlightKey, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+    // A lock rather than a monitor, matching the rest of the code that can run on virtual threads
+    private final ReentrantLock slowQueriesLock = new ReentrantLock();
+    private final ThreadPoolExecutor explainExecutor;
+    private volatile LocalDateTime collectingSince = LocalDateTime.now();
+
+    public QueryStatsCollector(QueryStatsProperties properties, ObjectProvider<MongoClient> mongoClient,
+                               ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.mongoClient = mongoClient;
+        this.objectMapper = objectMapper;
+        // One explain at a time with a short queue: plans are diagnostics and must not add load of their own
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mongo-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        if (!QueryShape.TRACKED_COMMANDS.contains(commandName)) {
+            return;
+        }
+        BsonDocument command = event.getCommand();
+        String shape = QueryShape.of(commandName, command);
+        // The event's document is backed by the driver's buffer, so what explain needs is copied now
+        BsonDocument explainable = EXPLAINABLE_COMMANDS.contains(commandName) ? explainable(commandName, command) : null;
+        inFlight.put(new InFlightKey(event.getConnectionDescription().getConnectionId(), event.getRequestId()),
+                new InFlight(shape, commandName, QueryShape.collection(commandName, command), event.getDatabaseName(),
+                        explainable));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        InFlight command = inFlight.remove(
+                new InFlightKey(event.getConnectionDescription().getConnectionId(), event.getRequestId()));
+        if (command != null) {
+            record(command, event.getElapsedTime(TimeUnit.NANOSECONDS), documents(event.getResponse()), false);
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        InFlight command = inFlight.remove(
+                new InFlightKey(event.getConnectionDescription().getConnectionId(), event.getRequestId()));
+        if (command != null) {
+            record(command, event.getElapsedTime(TimeUnit.NANOSECONDS), 0, true);
+        }
+    }
+
+    public QueryStatsDTO getStats(Comparator<QueryShapeStatsDTO> order, int limit) {
+        List<QueryShapeStatsDTO> shapeStats = shapes.entrySet().stream()
+                .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                .sorted(order)
+                .limit(limit)
+                .toList();
+
+        List<SlowQueryDTO> slow = new ArrayList<>();
+        slowQueriesLock.lock();
+        try {
+            for (SlowQuery query : slowQueries) {
+                slow.add(query.toDTO());
+            }
+        } finally {
+            slowQueriesLock.unlock();
+        }
+        return new QueryStatsDTO(collectingSince, properties.getSlowThresholdMs(), shapeStats, slow);
+    }
+
+    public void reset() {
+        shapes.clear();
+        slowQueriesLock.lock();
+        try {
+            slowQueries.clear();
+        } finally {
+            slowQueriesLock.unlock();
+        }
+        collectingSince = LocalDateTime.now();
+    }
+
+    private void record(InFlight command, long elapsedNanos, long documents, boolean failed) {
+        String key = command.shape();
+        ShapeStats stats = shapes.get(key);
+        if (stats == null) {
+            boolean full = shapes.size() >= properties.getMaxShapes();
+            stats = full
+                    ? shapes.computeIfAbsent(OTHER_SHAPES, shape -> new ShapeStats("*", "*"))
+                    : shapes.computeIfAbsent(key, shape -> new ShapeStats(command.commandName(), command.collection()));
+        }
+        stats.record(elapsedNanos, documents, failed);
+
+        if (elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMs())) {
+            stats.slowCalls.increment();
+            logSlow(command, stats, elapsedNanos, failed);
+        }
+    }
+
+    private void logSlow(InFlight command, ShapeStats stats, long elapsedNanos, boolean failed) {
+        // The log keeps only a redacted copy; the raw command lives on in the explain task until it has run
+        SlowQuery slow = new SlowQuery(command.shape(), command.database(), elapsedNanos, failed, LocalDateTime.now(),
+                command.explainable() != null ? redacted(command.commandName(), command.explainable()) : null);
+        logger.warn("Slow Mongo command ({} ms): {}", elapsedNanos / 1_000_000, command.shape());
+        slowQueriesLock.lock();
+        try {
+            if (slowQueries.size() >= Math.max(1, properties.getSlowLogSize())) {
+                slowQueries.removeFirst();
+            }
+            slowQueries.addLast(slow);
+        } finally {
+            slowQueriesLock.unlock();
+        }
+
+        if (command.explainable() == null) {
+            slow.explainStatus = "not explainable";
+            return;
+        }
+        long now = System.nanoTime();
+        long last = stats.lastExplainNanos.get();
+        boolean explainedRecently = last != 0
+                && now - last < TimeUnit.SECONDS.toNanos(properties.getExplainIntervalSeconds());
+        if (explainedRecently || !stats.lastExplainNanos.compareAndSet(last, now)) {
+            slow.explainStatus = "skipped: shape explained recently";
+            return;
+        }
+        slow.explainStatus = "pending";
+        try {
+            BsonDocument explainable = command.explainable();
+            String database = command.database();
+            explainExecutor.execute(() -> explain(database, explainable, slow));
+        } catch (RejectedExecutionException e) {
+            slow.explainStatus = "skipped: explain queue full";
+        }
+    }
+
+    // Runs on the explain thread; "explain" itself is not a tracked command, so it is never recorded
+    private void explain(String database, BsonDocument explainable, SlowQuery slow) {
+        try {
+            BsonDocument explainCommand = new BsonDocument("explain", explainable)
+                    .append("verbosity", new BsonString(properties.getExplainVerbosity()));
+            BsonDocument plan = mongoClient.getObject().getDatabase(database)
+                    .runCommand(explainCommand, BsonDocument.class);
+            EXPLAIN_NOISE.forEach(plan::remove);
+            redactPlan(plan);
+            slow.explain = plan.toJson(JSON);
+            slow.explainStatus = "captured";
+        } catch (Exception e) {
+            slow.explainStatus = "failed: " + e.getMessage();
+        }
+    }
+
+    // Rebuilds the command without session, cluster time and other wire fields; write commands keep only
+    // their first statement because explain accepts a single one
+    private static BsonDocument explainable(String commandName, BsonDocument command) {
+        BsonDocument copy = new BsonDocument(commandName, command.get(commandName));
+        for (String field : List.of("filter", "sort", "projection", "hint", "skip", "limit", "collation", "pipeline",
+                "query", "key", "update", "fields", "upsert", "new", "remove", "allowDiskUse")) {
+            BsonValue value = command.get(field);
+            if (value != null) {
+                copy.append(field, value);
+            }
+        }
+        if (commandName.equals("aggregate")) {
+            copy.append("cursor", new BsonDocument());
+        } else if (commandName.equals("update") || commandName.equals("delete")) {
+            String statements = commandName.equals("update") ? "updates" : "deletes";
+            copy.append(statements, new BsonArray(List.of(QueryShape.firstStatement(command, statements))));
+        }
+        return copy.clone();
+    }
+
+    static String redacted(String commandName, BsonDocument explainable) {
+        BsonDocument copy = new BsonDocument();
+        for (Map.Entry<String, BsonValue> entry : explainable.entrySet()) {
+            String field = entry.getKey();
+            copy.append(field, field.equals(commandName) || STRUCTURAL_FIELDS.contains(field)
+                    ? entry.getValue()
+                    : QueryShape.redact(entry.getValue()));
+        }
+        return copy.toJson(JSON);
+    }
+
+    static void redactPlan(BsonValue node) {
+        if (node.isDocument()) {
+            for (Map.Entry<String, BsonValue> entry : node.asDocument().entrySet()) {
+                if (PLAN_LITERAL_FIELDS.contains(entry.getKey())) {
+                    entry.setValue(QueryShape.redact(entry.getValue()));
+                } else {
+                    redactPlan(entry.getValue());
+                }
+            }
+        } else if (node.isArray()) {
+            node.asArray().forEach(QueryStatsCollector::redactPlan);
+        }
+    }
+
+    private static long documents(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().get("firstBatch");
+            if (batch == null) {
+                batch = cursor.asDocument().get("nextBatch");
+            }
+            return batch != null && batch.isArray() ? batch.asArray().size() : 0;
+        }
+        BsonValue n = response.get("n");
+        if (n != null && n.isNumber()) {
+            return n.asNumber().longValue();
+        }
+        BsonValue values = response.get("values");
+        if (values != null && values.isArray()) {
+            return values.asArray().size();
+        }
+        BsonValue value = response.get("value");
+        return value != null && value.isDocument() ? 1 : 0;
+    }
+
+    private JsonNode toJsonNode(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            return objectMapper.getNodeFactory().textNode(json);
+        }
+    }
+
+    private record InFlightKey(ConnectionId connectionId, int requestId) {
+    }
+
+    private record InFlight(String shape, String commandName, String collection, String database,
+                            BsonDocument explainable) {
+    }
+
+    private static final class ShapeStats {
+        private final String command;
+        private final String collection;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final LongAdder documents = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong lastExplainNanos = new AtomicLong();
+
+        private ShapeStats(String command, String collection) {
+            this.command = command;
+            this.collection = collection;
+        }
+
+        private void record(long elapsedNanos, long documentCount, boolean failed) {
+            calls.increment();
+            totalNanos.add(elapsedNanos);
+            documents.add(documentCount);
+            if (failed) {
+                failures.increment();
+            }
+            minNanos.accumulateAndGet(elapsedNanos, Math::min);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        private QueryShapeStatsDTO toDTO(String shape) {
+            long count = calls.sum();
+            long total = totalNanos.sum();
+            QueryShapeStatsDTO dto = new QueryShapeStatsDTO();
+            dto.setShape(shape);
+            dto.setCommand(command);
+            dto.setCollection(collection);
+            dto.setCalls(count);
+            dto.setFailures(failures.sum());
+            dto.setSlowCalls(slowCalls.sum());
+            dto.setDocuments(documents.sum());
+            dto.setTotalMs(millis(total));
+            dto.setMeanMs(count == 0 ? 0 : millis(total / count));
+            dto.setMinMs(count == 0 ? 0 : millis(minNanos.get()));
+            dto.setMaxMs(millis(maxNanos.get()));
+            return dto;
+        }
+    }
+
+    private final class SlowQuery {
+        private final String shape;
+        private final String database;
+        private final long elapsedNanos;
+        private final boolean failed;
+        private final LocalDateTime executedAt;
+        private final String command;
+        private volatile String explainStatus;
+        private volatile String explain;
+
+        private SlowQuery(String shape, String database, long elapsedNanos, boolean failed, LocalDateTime executedAt,
+                          String command) {
+            this.shape = shape;
+            this.database = database;
+            this.elapsedNanos = elapsedNanos;
+            this.failed = failed;
+            this.executedAt = executedAt;
+            this.command = command;
+        }
+
+        private SlowQueryDTO toDTO() {
+            SlowQueryDTO dto = new SlowQueryDTO();
+            dto.setShape(shape);
+            dto.setDatabase(database);
+            dto.setDurationMs(millis(elapsedNanos));
+            dto.setFailed(failed);
+            dto.setExecutedAt(executedAt);
+            dto.setCommand(toJsonNode(command));
+            dto.setExplainStatus(explainStatus);
+            dto.setExplain(toJsonNode(explain));
+            return dto;
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.dto.DashboardStatsDTO;
+import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.dto.ScheduleDTO;
+import com.example.garbageapp.dto.SpecialRequestDTO;
+import com.example.garbageapp.exception.ResourceNotFoundException;
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Schedule;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.repository.reactive.ReactiveAreaRepository;
+import com.example.garbageapp.repository.reactive.ReactiveScheduleRepository;
+import com.example.garbageapp.repository.reactive.ReactiveSpecialRequestRepository;
+import com.example.garbageapp.security.UserDetailsImpl;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Non-blocking counterparts of the hot read paths. Enrichment only uses document snapshots,
+// the loaded area registry and the authenticated principal, never a blocking lookup.
+@Service
+@Profile("reactive")
+public class ReactiveReadService {
+
+    private final ReactiveScheduleRepository scheduleRepository;
+    private final ReactiveSpecialRequestRepository specialRequestRepository;
+    private final ReactiveAreaRepository areaRepository;
+    private final AreaRegistry areaRegistry;
+
+    public ReactiveReadService(ReactiveScheduleRepository scheduleRepository,
+                               ReactiveSpecialRequestRepository specialRequestRepository,
+                               ReactiveAreaRepository areaRepository,
+                               AreaRegistry areaRegistry) {
+        this.scheduleRepository = scheduleRepository;
+        this.specialRequestRepository = specialRequestRepository;
+        this.areaRepository = areaRepository;
+        this.areaRegistry = areaRegistry;
+    }
+
+    public Mono<PagedResponse<ScheduleDTO>> getSchedulesByAreaId(String areaId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("pickupDate", "_id").ascending());
+
+        Mono<Boolean> areaExists = areaRegistry.findLoaded(areaId).isPresent()
+                ? Mono.just(true)
+                : areaRepository.existsById(areaId);
+
+        return areaExists
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Area not found with id: " + areaId)))
+                .flatMap(exists -> Mono.zip(
+                        scheduleRepository.findByAreaId(areaId, pageable).map(this::mapToDTO).collectList(),
+                        scheduleRepository.countByAreaId(areaId)))
+                .map(result -> toPagedResponse(result.getT1(), pageable, result.getT2()));
+    }
+
+    public Mono<PagedResponse<SpecialRequestDTO>> getUserRequests(UserDetailsImpl currentUser, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("requestDate", "_id").descending());
+
+        return Mono.zip(
+                        specialRequestRepository.findByUserId(currentUser.getId(), pageable)
+                                .map(request -> mapToDTO(request, currentUser.getFullName()))
+                                .collectList(),
+                        specialRequestRepository.countByUserId(currentUser.getId()))
+                .map(result -> toPagedResponse(result.getT1(), pageable, result.getT2()));
+    }
+
+    public Mono<DashboardStatsDTO> getUserDashboardStats(String userId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return Mono.zip(
+                        specialRequestRepository.countByUserIdAndStatus(userId, SpecialRequest.RequestStatus.PENDING),
+                        scheduleRepository.countByPickupDateBetween(now, now.plusWeeks(1)))
+                .map(counts -> DashboardStatsDTO.builder()
+                        .pendingRequests(counts.getT1())
+                        .upcomingCollections(counts.getT2())
+                        .build());
+    }
+
+    private <T> PagedResponse<T> toPagedResponse(List<T> content, Pageable pageable, long total) {
+        int totalPages = (int) Math.ceil((double) total / pageable.getPageSize());
+        return new PagedResponse<>(
+                content,
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                total,
+                totalPages,
+                pageable.getPageNumber() + 1 >= totalPages
+        );
+    }
+
+    private ScheduleDTO mapToDTO(Schedule schedule) {
+        ScheduleDTO scheduleDTO = new ScheduleDTO();
+        scheduleDTO.setId(schedule.getId());
+        scheduleDTO.setAreaId(schedule.getAreaId());
+        scheduleDTO.setPickupDate(schedule.getPickupDate());
+        scheduleDTO.setType(schedule.getType());
+        scheduleDTO.setNotes(schedule.getNotes());
+        scheduleDTO.setAreaName(areaName(schedule.getAreaName(), schedule.getAreaId()));
+        return scheduleDTO;
+    }
+
+    private SpecialRequestDTO mapToDTO(SpecialRequest request, String userName) {
+        SpecialRequestDTO requestDTO = new SpecialRequestDTO();
+        requestDTO.setId(request.getId());
+        requestDTO.setUserId(request.getUserId());
+        requestDTO.setAreaId(request.getAreaId());
+        requestDTO.setRequestDate(request.getRequestDate());
+        requestDTO.setStatus(request.getStatus());
+        requestDTO.setDescription(request.getDescription());
+        requestDTO.setAdminNote(request.getAdminNote());
+        requestDTO.setAreaName(areaName(request.getAreaName(), request.getAreaId()));
+        requestDTO.setUserName(userName);
+        return requestDTO;
+    }
+
+    private String areaName(String snapshot, String areaId) {
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return areaRegistry.findLoaded(areaId).map(Area::getName).orElse(null);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.dto.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Writes a cursor-backed stream as NDJSON or CSV, mapping and flushing one bounded batch at a time
+@Component
+public class RecordExporter {
+
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public RecordExporter(ObjectMapper objectMapper, @Value("${app.export.batch-size:500}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public <E, D> void export(Stream<E> records,
+                              Function<List<E>, List<D>> mapper,
+                              ExportFormat format,
+                              LinkedHashMap<String, Function<D, Object>> columns,
+                              OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvRow(writer, new ArrayList<>(columns.keySet()));
+        }
+
+        Iterator<E> iterator = records.iterator();
+        List<E> batch = new ArrayList<>(batchSize);
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() == batchSize) {
+                writeBatch(writer, mapper.apply(batch), format, columns);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(writer, mapper.apply(batch), format, columns);
+        }
+        writer.flush();
+    }
+
+    private <D> void writeBatch(Writer writer, List<D> rows, ExportFormat format,
+                                LinkedHashMap<String, Function<D, Object>> columns) throws IOException {
+        for (D row : rows) {
+            if (format == ExportFormat.CSV) {
+                List<Object> values = new ArrayList<>(columns.size());
+                columns.values().forEach(column -> values.add(column.apply(row)));
+                writeCsvRow(writer, values);
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
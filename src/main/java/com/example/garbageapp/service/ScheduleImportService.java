@@ -0,0 +1,248 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.dto.BulkImportResultDTO;
+import com.example.garbageapp.dto.BulkItemResultDTO;
+import com.example.garbageapp.dto.ScheduleDTO;
+import com.example.garbageapp.exception.BadRequestException;
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Schedule;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ScheduleImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleImportService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final AreaRegistry areaRegistry;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public ScheduleImportService(MongoTemplate mongoTemplate,
+                                 AreaRegistry areaRegistry,
+                                 ObjectMapper objectMapper,
+                                 Validator validator,
+                                 @Value("${app.schedules.bulk.chunk-size:1000}") int chunkSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.areaRegistry = areaRegistry;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    // Reads a JSON array one element at a time; an element that fails to bind is reported and skipped.
+    // Earlier chunks are already written when the body turns out to be malformed, so the result still
+    // lists every item read so far together with the parse error
+    public BulkImportResultDTO importJson(InputStream in) throws IOException {
+        ImportBatch batch = new ImportBatch();
+        try (MappingIterator<JsonNode> items = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            while (items.hasNextValue()) {
+                JsonNode item = items.nextValue();
+                try {
+                    batch.add(objectMapper.treeToValue(item, ScheduleDTO.class));
+                } catch (JsonProcessingException e) {
+                    batch.reject(e.getOriginalMessage());
+                }
+            }
+        } catch (JsonParseException e) {
+            batch.stop("Malformed JSON after item " + batch.size() + ": " + e.getOriginalMessage());
+        }
+        return batch.finish();
+    }
+
+    // Expects a header row naming the areaId, pickupDate, type and (optional) notes columns
+    public BulkImportResultDTO importCsv(InputStream in) throws IOException {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            return new ImportBatch().finish();
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        for (String required : List.of("areaId", "pickupDate", "type")) {
+            if (!columns.containsKey(required)) {
+                throw new BadRequestException("CSV header is missing column: " + required);
+            }
+        }
+
+        ImportBatch batch = new ImportBatch();
+        List<String> row;
+        while ((row = nextRow(reader, batch)) != null) {
+            try {
+                ScheduleDTO scheduleDTO = new ScheduleDTO();
+                scheduleDTO.setAreaId(column(row, columns, "areaId"));
+                String pickupDate = column(row, columns, "pickupDate");
+                scheduleDTO.setPickupDate(pickupDate != null ? LocalDateTime.parse(pickupDate) : null);
+                String type = column(row, columns, "type");
+                scheduleDTO.setType(type != null ? Schedule.ScheduleType.valueOf(type.toUpperCase(Locale.ROOT)) : null);
+                scheduleDTO.setNotes(column(row, columns, "notes"));
+                batch.add(scheduleDTO);
+            } catch (DateTimeParseException e) {
+                batch.reject("Invalid pickup date: " + e.getParsedString());
+            } catch (IllegalArgumentException e) {
+                batch.reject("Invalid schedule type");
+            }
+        }
+        return batch.finish();
+    }
+
+    // Like a malformed JSON body, a broken CSV ends the import with the rows read so far
+    private List<String> nextRow(CsvReader reader, ImportBatch batch) throws IOException {
+        try {
+            return reader.next();
+        } catch (CsvReader.MalformedCsvException e) {
+            batch.stop("Malformed CSV after row " + batch.size() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private String column(List<String> row, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= row.size()) {
+            return null;
+        }
+        String value = row.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Applies the createSchedule rules in memory and writes valid rows in unordered chunks
+    private final class ImportBatch {
+
+        private final LocalDateTime now = LocalDateTime.now();
+        private final List<BulkItemResultDTO> results = new ArrayList<>();
+        private final List<Schedule> pending = new ArrayList<>();
+        private final List<BulkItemResultDTO> pendingResults = new ArrayList<>();
+        private int created;
+        private String terminalError;
+
+        int size() {
+            return results.size();
+        }
+
+        void add(ScheduleDTO scheduleDTO) {
+            String error = validate(scheduleDTO);
+            if (error != null) {
+                reject(error);
+                return;
+            }
+
+            // Checked and resolved in one lookup, so an area deleted mid-import rejects only its rows
+            Area area = areaRegistry.findById(scheduleDTO.getAreaId()).orElse(null);
+            if (area == null) {
+                reject("Area not found with id: " + scheduleDTO.getAreaId());
+                return;
+            }
+
+            // Ids and audit dates are assigned here because bulk inserts are not treated as new entities
+            Schedule schedule = new Schedule();
+            schedule.setId(new ObjectId().toHexString());
+            schedule.setAreaId(scheduleDTO.getAreaId());
+            schedule.setAreaName(area.getName());
+            schedule.setZone(area.getZone());
+            schedule.setPickupDate(scheduleDTO.getPickupDate());
+            schedule.setType(scheduleDTO.getType());
+            schedule.setNotes(scheduleDTO.getNotes());
+            schedule.setCreatedAt(now);
+            schedule.setUpdatedAt(now);
+
+            BulkItemResultDTO result = new BulkItemResultDTO(results.size(), schedule.getId(), true, null);
+            results.add(result);
+            pending.add(schedule);
+            pendingResults.add(result);
+
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(String error) {
+            results.add(new BulkItemResultDTO(results.size(), null, false, error));
+        }
+
+        void stop(String error) {
+            terminalError = error;
+        }
+
+        BulkImportResultDTO finish() {
+            flush();
+            if (terminalError != null) {
+                logger.warn("Bulk schedule import stopped early: {}", terminalError);
+            }
+            logger.info("Bulk schedule import finished: {} created, {} failed", created, results.size() - created);
+            return new BulkImportResultDTO(results.size(), created, results.size() - created, results, terminalError);
+        }
+
+        private String validate(ScheduleDTO scheduleDTO) {
+            Set<ConstraintViolation<ScheduleDTO>> violations = validator.validate(scheduleDTO);
+            if (!violations.isEmpty()) {
+                return violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            }
+            if (scheduleDTO.getPickupDate().isBefore(now)) {
+                return "Pickup date must be in the future";
+            }
+            return null;
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            try {
+                created += mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Schedule.class)
+                        .insert(pending)
+                        .execute()
+                        .getInsertedCount();
+            } catch (BulkOperationException e) {
+                // Unordered writes keep going past failures; only the reported indexes were not inserted
+                created += e.getResult().getInsertedCount();
+                for (BulkWriteError writeError : e.getErrors()) {
+                    BulkItemResultDTO result = pendingResults.get(writeError.getIndex());
+                    result.setId(null);
+                    result.setSuccess(false);
+                    result.setError(writeError.getMessage());
+                }
+            }
+
+            pending.clear();
+            pendingResults.clear();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Schedule;
+import com.mongodb.bulk.BulkWriteError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Expands each area's pickup days into REGULAR schedules for a rolling horizon.
+// Rows are upserted on (areaId, pickupDate, type), which a partial unique index on generated rows backs,
+// so overlapping runs (nightly, per-area regeneration, other instances) cannot insert the same row twice.
+@Component
+public class ScheduleMaterializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleMaterializer.class);
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final AreaRegistry areaRegistry;
+    private final AsyncTaskExecutor taskExecutor;
+    private final int horizonDays;
+    private final LocalTime pickupTime;
+
+    // Last day already materialized per area, so scheduled runs only write the newly uncovered days
+    private final Map<String, LocalDate> materializedThrough = new ConcurrentHashMap<>();
+
+    public ScheduleMaterializer(MongoTemplate mongoTemplate,
+                                AreaRegistry areaRegistry,
+                                @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+                                @Value("${app.schedules.materializer.horizon-days:28}") int horizonDays,
+                                @Value("${app.schedules.materializer.pickup-time:08:00}") LocalTime pickupTime) {
+        this.mongoTemplate = mongoTemplate;
+        this.areaRegistry = areaRegistry;
+        this.taskExecutor = taskExecutor;
+        this.horizonDays = horizonDays;
+        this.pickupTime = pickupTime;
+    }
+
+    // A fresh deployment would otherwise show no generated schedules until the first nightly run
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void materializeOnStartup() {
+        materializeAll();
+    }
+
+    @Scheduled(cron = "${app.schedules.materializer.cron:0 30 2 * * *}")
+    public void materializeAll() {
+        try {
+            Map<String, List<Area>> areasByZone = areaRegistry.getAll().stream()
+                    .collect(Collectors.groupingBy(area -> Objects.requireNonNullElse(area.getZone(), "")));
+
+            // Zones are independent, so each one is written on its own worker
+            List<CompletableFuture<Integer>> zones = areasByZone.values().stream()
+                    .map(areas -> CompletableFuture.supplyAsync(() -> materialize(areas), taskExecutor))
+                    .collect(Collectors.toList());
+
+            int written = zones.stream().mapToInt(CompletableFuture::join).sum();
+            logger.info("Materialized {} recurring schedules across {} zones", written, zones.size());
+        } catch (Exception e) {
+            logger.warn("Could not materialize recurring schedules: {}", e.getMessage());
+        }
+    }
+
+    // Called after an area's pickup days change or the area is removed
+    @Async
+    public void regenerateArea(String areaId) {
+        try {
+            Optional<Area> area = areaRegistry.findById(areaId);
+            Set<DayOfWeek> days = area.map(this::pickupDays).orElse(EnumSet.noneOf(DayOfWeek.class));
+
+            // Only future generated rows that fall on a day the area no longer uses are removed
+            Query future = Query.query(Criteria.where("areaId").is(areaId)
+                    .and("generated").is(true)
+                    .and("pickupDate").gte(LocalDateTime.now()));
+            future.fields().include("pickupDate");
+            List<String> staleIds = mongoTemplate.find(future, Schedule.class).stream()
+                    .filter(schedule -> !days.contains(schedule.getPickupDate().getDayOfWeek()))
+                    .map(Schedule::getId)
+                    .collect(Collectors.toList());
+            if (!staleIds.isEmpty()) {
+                mongoTemplate.remove(Query.query(Criteria.where("_id").in(staleIds)), Schedule.class);
+            }
+
+            materializedThrough.remove(areaId);
+            int written = area.map(value -> materialize(List.of(value))).orElse(0);
+            logger.info("Regenerated schedules for area {}: {} removed, {} added", areaId, staleIds.size(), written);
+        } catch (Exception e) {
+            logger.warn("Could not regenerate schedules for area {}: {}", areaId, e.getMessage());
+        }
+    }
+
+    private int materialize(List<Area> areas) {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(horizonDays);
+        LocalDateTime now = LocalDateTime.now();
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Schedule.class);
+        List<String> covered = new ArrayList<>();
+        int queued = 0;
+        int written = 0;
+
+        for (Area area : areas) {
+            Set<DayOfWeek> days = pickupDays(area);
+            LocalDate from = Optional.ofNullable(materializedThrough.get(area.getId()))
+                    .map(through -> through.plusDays(1))
+                    .filter(next -> next.isAfter(today))
+                    .orElse(today);
+
+            for (LocalDate date = from; !date.isAfter(horizon); date = date.plusDays(1)) {
+                LocalDateTime pickupDate = date.atTime(pickupTime);
+                if (!days.contains(date.getDayOfWeek()) || pickupDate.isBefore(now)) {
+                    continue;
+                }
+
+                Query key = Query.query(Criteria.where("areaId").is(area.getId())
+                        .and("pickupDate").is(pickupDate)
+                        .and("type").is(Schedule.ScheduleType.REGULAR));
+                Update update = new Update()
+                        .setOnInsert("areaName", area.getName())
+                        .setOnInsert("zone", area.getZone())
+                        .setOnInsert("generated", true)
+                        .setOnInsert("createdAt", now)
+                        .setOnInsert("updatedAt", now);
+                bulk.upsert(key, update);
+
+                if (++queued == BULK_CHUNK_SIZE) {
+                    written += execute(bulk);
+                    bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Schedule.class);
+                    queued = 0;
+                }
+            }
+            covered.add(area.getId());
+        }
+
+        if (queued > 0) {
+            written += execute(bulk);
+        }
+        covered.forEach(areaId -> materializedThrough.put(areaId, horizon));
+        return written;
+    }
+
+    // A duplicate key means a concurrent run inserted the same row first, so it is already materialized
+    private int execute(BulkOperations bulk) {
+        try {
+            return bulk.execute().getUpserts().size();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            return e.getResult().getUpserts().size();
+        }
+    }
+
+    private Set<DayOfWeek> pickupDays(Area area) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (area.getPickupDays() == null) {
+            return days;
+        }
+        for (String day : area.getPickupDays()) {
+            try {
+                days.add(DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring unknown pickup day '{}' on area {}", day, area.getId());
+            }
+        }
+        return days;
+    }
+}
@@ -1,38 +1,55 @@
 package com.example.garbageapp.service;
 
+import com.example.garbageapp.dto.ExportFormat;
 import com.example.garbageapp.dto.PagedResponse;
 import com.example.garbageapp.dto.ScheduleDTO;
 import com.example.garbageapp.dto.ScheduleFilterDTO;
+import com.example.garbageapp.dto.TotalMode;
 import com.example.garbageapp.exception.BadRequestException;
 import com.example.garbageapp.exception.ResourceNotFoundException;
 import com.example.garbageapp.model.Area;
 import com.example.garbageapp.model.Schedule;
-import com.example.garbageapp.repository.AreaRepository;
 import com.example.garbageapp.repository.ScheduleRepository;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed("app.service")
 public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
-    private final AreaRepository areaRepository;
+    private final AreaRegistry areaRegistry;
+    private final PageTotals pageTotals;
+    private final RecordExporter recordExporter;
     private static final Logger logger = LoggerFactory.getLogger(ScheduleService.class);
     
-    public ScheduleService(ScheduleRepository scheduleRepository, AreaRepository areaRepository) {
+    public ScheduleService(ScheduleRepository scheduleRepository, AreaRegistry areaRegistry, PageTotals pageTotals,
+                           RecordExporter recordExporter) {
         this.scheduleRepository = scheduleRepository;
-        this.areaRepository = areaRepository;
+        this.areaRegistry = areaRegistry;
+        this.pageTotals = pageTotals;
+        this.recordExporter = recordExporter;
     }
     
     public ScheduleDTO createSchedule(ScheduleDTO scheduleDTO) {
@@ -40,10 +57,11 @@ public class ScheduleService {
             logger.info("Creating schedule with data: {}", scheduleDTO);
             
             // Verify area exists
-            if (!areaRepository.existsById(scheduleDTO.getAreaId())) {
-                logger.error("Area not found with id: {}", scheduleDTO.getAreaId());
-                throw new ResourceNotFoundException("Area not found with id: " + scheduleDTO.getAreaId());
-            }
+            Area area = areaRegistry.findById(scheduleDTO.getAreaId())
+                    .orElseThrow(() -> {
+                        logger.error("Area not found with id: {}", scheduleDTO.getAreaId());
+                        return new ResourceNotFoundException("Area not found with id: " + scheduleDTO.getAreaId());
+                    });
             
             // Validate pickup date
             LocalDateTime now = LocalDateTime.now();
@@ -54,6 +72,8 @@ public class ScheduleService {
             
             Schedule schedule = new Schedule();
             schedule.setAreaId(scheduleDTO.getAreaId());
+            schedule.setAreaName(area.getName());
+            schedule.setZone(area.getZone());
             schedule.setPickupDate(scheduleDTO.getPickupDate());
             schedule.setType(scheduleDTO.getType());
             schedule.setNotes(scheduleDTO.getNotes());
@@ -76,13 +96,21 @@ public class ScheduleService {
         return mapToDTO(schedule);
     }
     
-    public PagedResponse<ScheduleDTO> getAllSchedules(int page, int size) {
+    public PagedResponse<ScheduleDTO> getAllSchedules(int page, int size, String cursor, TotalMode totalMode) {
+        if (cursor != null) {
+            return findSchedulesAfter(null, cursor, size);
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by("pickupDate").ascending());
+        if (totalMode != TotalMode.EXACT) {
+            Slice<Schedule> scheduleSlice = scheduleRepository.findSliceBy(pageable);
+            return PagedResponse.of(scheduleSlice, mapToDTOs(scheduleSlice.getContent()),
+                    pageTotals.unfiltered(totalMode, Schedule.class));
+        }
+        
         Page<Schedule> schedulePage = scheduleRepository.findAll(pageable);
         
-        List<ScheduleDTO> content = schedulePage.getContent().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        List<ScheduleDTO> content = mapToDTOs(schedulePage.getContent());
         
         return new PagedResponse<>(
                 content,
@@ -94,18 +122,28 @@ public class ScheduleService {
         );
     }
     
-    public PagedResponse<ScheduleDTO> getSchedulesByAreaId(String areaId, int page, int size) {
+    public PagedResponse<ScheduleDTO> getSchedulesByAreaId(String areaId, int page, int size, String cursor,
+                                                           TotalMode totalMode) {
         // Verify area exists
-        if (!areaRepository.existsById(areaId)) {
+        if (!areaRegistry.exists(areaId)) {
             throw new ResourceNotFoundException("Area not found with id: " + areaId);
         }
         
+        if (cursor != null) {
+            return findSchedulesAfter(areaId, cursor, size);
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by("pickupDate").ascending());
+        if (totalMode != TotalMode.EXACT) {
+            Slice<Schedule> scheduleSlice = scheduleRepository.findSliceByAreaId(areaId, pageable);
+            return PagedResponse.of(scheduleSlice, mapToDTOs(scheduleSlice.getContent()),
+                    pageTotals.filtered(totalMode, "schedules:areaId=" + areaId,
+                            () -> scheduleRepository.countByAreaId(areaId)));
+        }
+        
         Page<Schedule> schedulePage = scheduleRepository.findByAreaId(areaId, pageable);
         
-        List<ScheduleDTO> content = schedulePage.getContent().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        List<ScheduleDTO> content = mapToDTOs(schedulePage.getContent());
         
         return new PagedResponse<>(
                 content,
@@ -117,14 +155,21 @@ public class ScheduleService {
         );
     }
     
+    private PagedResponse<ScheduleDTO> findSchedulesAfter(String areaId, String cursor, int size) {
+        PageCursor position = PageCursor.decode(cursor);
+        List<Schedule> fetched = scheduleRepository.findPageAfter(
+                areaId, position.sortValueAsDateTime(), position.id(), size + 1);
+        
+        return PageCursor.toPagedResponse(fetched, size,
+                Schedule::getPickupDate, Schedule::getId,
+                this::mapToDTOs);
+    }
+    
     public List<ScheduleDTO> getSchedulesByDateRange(LocalDate startDate, LocalDate endDate) {
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
         
-        return scheduleRepository.findByPickupDateBetween(startDateTime, endDateTime)
-                .stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return mapToDTOs(scheduleRepository.findByPickupDateBetween(startDateTime, endDateTime));
     }
     
     public PagedResponse<ScheduleDTO> filterSchedules(ScheduleFilterDTO filterDTO) {
@@ -134,46 +179,61 @@ public class ScheduleService {
                 Sort.by("pickupDate").ascending()
         );
         
-        // Convert dates to LocalDateTime for filtering
-        LocalDateTime startDateTime = filterDTO.getStartDate() != null ? 
-                filterDTO.getStartDate().atStartOfDay() : LocalDate.now().atStartOfDay();
-        
-        LocalDateTime endDateTime = filterDTO.getEndDate() != null ?
-                filterDTO.getEndDate().atTime(LocalTime.MAX) : LocalDate.now().plusMonths(1).atTime(LocalTime.MAX);
-        
-        // Get schedules by area and date range
-        Page<Schedule> schedulePage;
-        if (filterDTO.getAreaId() != null) {
-            schedulePage = scheduleRepository.findByAreaId(filterDTO.getAreaId(), pageable);
-        } else {
-            schedulePage = scheduleRepository.findAll(pageable);
+        TotalMode totalMode = filterDTO.getTotalMode();
+        if (totalMode != TotalMode.EXACT) {
+            Slice<Schedule> scheduleSlice = scheduleRepository.filterSlice(filterDTO, pageable);
+            return PagedResponse.of(scheduleSlice, mapToDTOs(scheduleSlice.getContent()),
+                    pageTotals.filtered(totalMode, filterSignature(filterDTO),
+                            () -> scheduleRepository.countFiltered(filterDTO)));
         }
         
-        List<ScheduleDTO> content = schedulePage.getContent().stream()
-                .filter(schedule -> (filterDTO.getType() == null || schedule.getType() == filterDTO.getType()))
-                .filter(schedule -> schedule.getPickupDate().isAfter(startDateTime) && 
-                        schedule.getPickupDate().isBefore(endDateTime))
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        // Area, type and date range are all evaluated by Mongo together with paging and the count
+        Page<Schedule> schedulePage = scheduleRepository.filter(filterDTO, pageable);
+        
+        List<ScheduleDTO> content = mapToDTOs(schedulePage.getContent());
         
         return new PagedResponse<>(
                 content,
                 schedulePage.getNumber(),
                 schedulePage.getSize(),
-                content.size(), // This is not accurate for total elements but works for simple filtering
-                (int) Math.ceil((double) content.size() / filterDTO.getSize()),
-                content.size() <= filterDTO.getSize()
+                schedulePage.getTotalElements(),
+                schedulePage.getTotalPages(),
+                schedulePage.isLast()
         );
     }
     
+    // Runs outside the request thread, so access is checked by the controller before streaming starts
+    public void exportSchedules(ScheduleFilterDTO filterDTO, ExportFormat format, OutputStream out) throws IOException {
+        LinkedHashMap<String, Function<ScheduleDTO, Object>> columns = new LinkedHashMap<>();
+        columns.put("id", ScheduleDTO::getId);
+        columns.put("areaId", ScheduleDTO::getAreaId);
+        columns.put("areaName", ScheduleDTO::getAreaName);
+        columns.put("pickupDate", ScheduleDTO::getPickupDate);
+        columns.put("type", ScheduleDTO::getType);
+        columns.put("notes", ScheduleDTO::getNotes);
+        
+        try (Stream<Schedule> schedules = scheduleRepository.streamFiltered(filterDTO, recordExporter.getBatchSize())) {
+            recordExporter.export(schedules, this::mapToDTOs, format, columns, out);
+        }
+    }
+    
+    private String filterSignature(ScheduleFilterDTO filterDTO) {
+        return "schedules:areaId=" + filterDTO.getAreaId()
+                + ",type=" + filterDTO.getType()
+                + ",start=" + filterDTO.getStartDate()
+                + ",end=" + filterDTO.getEndDate();
+    }
+    
     public ScheduleDTO updateSchedule(String id, ScheduleDTO scheduleDTO) {
         Schedule schedule = scheduleRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Schedule not found with id: " + id));
         
         // Verify area exists if it's being changed
-        if (!schedule.getAreaId().equals(scheduleDTO.getAreaId()) && 
-                !areaRepository.existsById(scheduleDTO.getAreaId())) {
-            throw new ResourceNotFoundException("Area not found with id: " + scheduleDTO.getAreaId());
+        if (!schedule.getAreaId().equals(scheduleDTO.getAreaId())) {
+            Area area = areaRegistry.findById(scheduleDTO.getAreaId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Area not found with id: " + scheduleDTO.getAreaId()));
+            schedule.setAreaName(area.getName());
+            schedule.setZone(area.getZone());
         }
         
         schedule.setAreaId(scheduleDTO.getAreaId());
@@ -193,18 +253,35 @@ public class ScheduleService {
         scheduleRepository.deleteById(id);
     }
     
+    // Area names missing a snapshot are looked up once per area, not once per schedule
+    private List<ScheduleDTO> mapToDTOs(List<Schedule> schedules) {
+        Map<String, String> areaNames = new HashMap<>();
+        schedules.stream()
+                .filter(schedule -> schedule.getAreaName() == null)
+                .map(Schedule::getAreaId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(areaId -> areaRegistry.findById(areaId)
+                        .ifPresent(area -> areaNames.put(areaId, area.getName())));
+        
+        return schedules.stream()
+                .map(schedule -> mapToDTO(schedule, schedule.getAreaName() != null
+                        ? schedule.getAreaName() : areaNames.get(schedule.getAreaId())))
+                .collect(Collectors.toList());
+    }
+    
     private ScheduleDTO mapToDTO(Schedule schedule) {
+        return mapToDTOs(List.of(schedule)).get(0);
+    }
+    
+    private ScheduleDTO mapToDTO(Schedule schedule, String areaName) {
         ScheduleDTO scheduleDTO = new ScheduleDTO();
         scheduleDTO.setId(schedule.getId());
         scheduleDTO.setAreaId(schedule.getAreaId());
         scheduleDTO.setPickupDate(schedule.getPickupDate());
         scheduleDTO.setType(schedule.getType());
         scheduleDTO.setNotes(schedule.getNotes());
-        
-        // Fetch area name for display purposes
-        areaRepository.findById(schedule.getAreaId())
-                .ifPresent(area -> scheduleDTO.setAreaName(area.getName()));
-        
+        scheduleDTO.setAreaName(areaName);
         return scheduleDTO;
     }
-}
\ No newline at end of file
+}
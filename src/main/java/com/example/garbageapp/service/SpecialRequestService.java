@@ -1,64 +1,93 @@
 package com.example.garbageapp.service;
 
+import com.example.garbageapp.dto.BulkStatusUpdateDTO;
+import com.example.garbageapp.dto.BulkStatusUpdateResultDTO;
+import com.example.garbageapp.dto.ExportFormat;
 import com.example.garbageapp.dto.PagedResponse;
 import com.example.garbageapp.dto.RequestFilterDTO;
 import com.example.garbageapp.dto.RequestStatusUpdateDTO;
 import com.example.garbageapp.dto.SpecialRequestDTO;
+import com.example.garbageapp.dto.TotalMode;
 import com.example.garbageapp.exception.BadRequestException;
 import com.example.garbageapp.exception.ResourceNotFoundException;
 import com.example.garbageapp.exception.UnauthorizedException;
+import com.example.garbageapp.model.Area;
 import com.example.garbageapp.model.SpecialRequest;
-import com.example.garbageapp.model.User;
-import com.example.garbageapp.repository.AreaRepository;
 import com.example.garbageapp.repository.SpecialRequestRepository;
 import com.example.garbageapp.repository.UserRepository;
+import com.example.garbageapp.security.CurrentUserProvider;
+import com.example.garbageapp.security.UserDetailsImpl;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
-import java.time.LocalDate;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed("app.service")
 public class SpecialRequestService {
 
     private final SpecialRequestRepository specialRequestRepository;
     private final UserRepository userRepository;
-    private final AreaRepository areaRepository;
+    private final AreaRegistry areaRegistry;
+    private final DashboardCounterService dashboardCounterService;
+    private final CurrentUserProvider currentUserProvider;
+    private final PageTotals pageTotals;
+    private final RecordExporter recordExporter;
     
     public SpecialRequestService(SpecialRequestRepository specialRequestRepository,
                                 UserRepository userRepository,
-                                AreaRepository areaRepository) {
+                                AreaRegistry areaRegistry,
+                                DashboardCounterService dashboardCounterService,
+                                CurrentUserProvider currentUserProvider,
+                                PageTotals pageTotals,
+                                RecordExporter recordExporter) {
         this.specialRequestRepository = specialRequestRepository;
         this.userRepository = userRepository;
-        this.areaRepository = areaRepository;
+        this.areaRegistry = areaRegistry;
+        this.dashboardCounterService = dashboardCounterService;
+        this.currentUserProvider = currentUserProvider;
+        this.pageTotals = pageTotals;
+        this.recordExporter = recordExporter;
     }
     
     public SpecialRequestDTO createRequest(SpecialRequestDTO requestDTO) {
         // Get current authenticated user
-        String currentUserEmail = getCurrentUserEmail();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new UnauthorizedException("User not authenticated"));
+        UserDetailsImpl currentUser = currentUserProvider.getCurrentUser();
         
         // Verify area exists
-        if (!areaRepository.existsById(requestDTO.getAreaId())) {
-            throw new ResourceNotFoundException("Area not found with id: " + requestDTO.getAreaId());
-        }
+        Area area = areaRegistry.findById(requestDTO.getAreaId())
+                .orElseThrow(() -> new ResourceNotFoundException("Area not found with id: " + requestDTO.getAreaId()));
         
         // Create new request
         SpecialRequest request = new SpecialRequest();
         request.setUserId(currentUser.getId());
         request.setAreaId(requestDTO.getAreaId());
+        request.setAreaName(area.getName());
+        request.setZone(area.getZone());
         request.setRequestDate(requestDTO.getRequestDate());
         request.setStatus(SpecialRequest.RequestStatus.PENDING); // Default status
         request.setDescription(requestDTO.getDescription());
         
         SpecialRequest savedRequest = specialRequestRepository.save(request);
+        dashboardCounterService.requestCreated(savedRequest);
         
         return mapToDTO(savedRequest);
     }
@@ -68,32 +97,35 @@ public class SpecialRequestService {
                 .orElseThrow(() -> new ResourceNotFoundException("Special request not found with id: " + id));
         
         // Check if user has permission to view this request
-        String currentUserEmail = getCurrentUserEmail();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new UnauthorizedException("User not authenticated"));
-        
-        boolean isAdmin = currentUser.getRoles().stream()
-                .anyMatch(role -> role.name().equals("ROLE_ADMIN"));
-                
-        if (!isAdmin && !request.getUserId().equals(currentUser.getId())) {
+        UserDetailsImpl currentUser = currentUserProvider.getCurrentUser();
+        
+        if (!currentUser.isAdmin() && !request.getUserId().equals(currentUser.getId())) {
             throw new UnauthorizedException("You do not have permission to view this request");
         }
         
         return mapToDTO(request);
     }
     
-    public PagedResponse<SpecialRequestDTO> getUserRequests(int page, int size) {
+    public PagedResponse<SpecialRequestDTO> getUserRequests(int page, int size, String cursor, TotalMode totalMode) {
         // Get current authenticated user
-        String currentUserEmail = getCurrentUserEmail();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new UnauthorizedException("User not authenticated"));
+        UserDetailsImpl currentUser = currentUserProvider.getCurrentUser();
+        
+        if (cursor != null) {
+            return findRequestsAfter(currentUser.getId(), cursor, size);
+        }
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("requestDate").descending());
+        if (totalMode != TotalMode.EXACT) {
+            String userId = currentUser.getId();
+            Slice<SpecialRequest> requestSlice = specialRequestRepository.findSliceByUserId(userId, pageable);
+            return PagedResponse.of(requestSlice, mapToDTOs(requestSlice.getContent()),
+                    pageTotals.filtered(totalMode, "special_requests:userId=" + userId,
+                            () -> specialRequestRepository.countByUserId(userId)));
+        }
+        
         Page<SpecialRequest> requestPage = specialRequestRepository.findByUserId(currentUser.getId(), pageable);
         
-        List<SpecialRequestDTO> content = requestPage.getContent().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        List<SpecialRequestDTO> content = mapToDTOs(requestPage.getContent());
         
         return new PagedResponse<>(
                 content,
@@ -105,18 +137,26 @@ public class SpecialRequestService {
         );
     }
     
-    public PagedResponse<SpecialRequestDTO> getAllRequests(int page, int size) {
+    public PagedResponse<SpecialRequestDTO> getAllRequests(int page, int size, String cursor, TotalMode totalMode) {
         // Check if user is admin
-        if (!isCurrentUserAdmin()) {
+        if (!currentUserProvider.isCurrentUserAdmin()) {
             throw new UnauthorizedException("You do not have permission to view all requests");
         }
         
+        if (cursor != null) {
+            return findRequestsAfter(null, cursor, size);
+        }
+        
         Pageable pageable = PageRequest.of(page, size, Sort.by("requestDate").descending());
+        if (totalMode != TotalMode.EXACT) {
+            Slice<SpecialRequest> requestSlice = specialRequestRepository.findSliceBy(pageable);
+            return PagedResponse.of(requestSlice, mapToDTOs(requestSlice.getContent()),
+                    pageTotals.unfiltered(totalMode, SpecialRequest.class));
+        }
+        
         Page<SpecialRequest> requestPage = specialRequestRepository.findAll(pageable);
         
-        List<SpecialRequestDTO> content = requestPage.getContent().stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        List<SpecialRequestDTO> content = mapToDTOs(requestPage.getContent());
         
         return new PagedResponse<>(
                 content,
@@ -128,16 +168,21 @@ public class SpecialRequestService {
         );
     }
     
+    private PagedResponse<SpecialRequestDTO> findRequestsAfter(String userId, String cursor, int size) {
+        PageCursor position = PageCursor.decode(cursor);
+        List<SpecialRequest> fetched = specialRequestRepository.findPageAfter(
+                userId, position.sortValueAsDate(), position.id(), size + 1);
+        
+        return PageCursor.toPagedResponse(fetched, size,
+                SpecialRequest::getRequestDate, SpecialRequest::getId, this::mapToDTOs);
+    }
+    
     public PagedResponse<SpecialRequestDTO> filterRequests(RequestFilterDTO filterDTO) {
         // Check permissions
-        String currentUserEmail = getCurrentUserEmail();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new UnauthorizedException("User not authenticated"));
-        
-        boolean isAdmin = isCurrentUserAdmin();
+        UserDetailsImpl currentUser = currentUserProvider.getCurrentUser();
         
         // Non-admin users can only filter their own requests
-        if (!isAdmin) {
+        if (!currentUser.isAdmin()) {
             filterDTO.setUserId(currentUser.getId());
         }
         
@@ -147,133 +192,193 @@ public class SpecialRequestService {
                 Sort.by("requestDate").descending()
         );
         
-        // Apply filters
-        Page<SpecialRequest> requestPage;
-        
-        if (filterDTO.getUserId() != null) {
-            requestPage = specialRequestRepository.findByUserId(filterDTO.getUserId(), pageable);
-        } else if (filterDTO.getAreaId() != null) {
-            requestPage = specialRequestRepository.findByAreaId(filterDTO.getAreaId(), pageable);
-        } else if (filterDTO.getStatus() != null) {
-            requestPage = specialRequestRepository.findByStatus(filterDTO.getStatus(), pageable);
-        } else {
-            requestPage = specialRequestRepository.findAll(pageable);
+        TotalMode totalMode = filterDTO.getTotalMode();
+        if (totalMode != TotalMode.EXACT) {
+            Slice<SpecialRequest> requestSlice = specialRequestRepository.filterSlice(filterDTO, pageable);
+            return PagedResponse.of(requestSlice, mapToDTOs(requestSlice.getContent()),
+                    pageTotals.filtered(totalMode, filterSignature(filterDTO),
+                            () -> specialRequestRepository.countFiltered(filterDTO)));
         }
         
-        List<SpecialRequestDTO> content = requestPage.getContent().stream()
-                .filter(request -> {
-                    // Date range filtering
-                    boolean dateFilter = true;
-                    if (filterDTO.getStartDate() != null && filterDTO.getEndDate() != null) {
-                        dateFilter = request.getRequestDate().isAfter(filterDTO.getStartDate().minusDays(1)) &&
-                                    request.getRequestDate().isBefore(filterDTO.getEndDate().plusDays(1));
-                    }
-                    return dateFilter;
-                })
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        // All filter fields, sorting, paging and the total count are evaluated by Mongo
+        Page<SpecialRequest> requestPage = specialRequestRepository.filter(filterDTO, pageable);
+        
+        List<SpecialRequestDTO> content = mapToDTOs(requestPage.getContent());
         
         return new PagedResponse<>(
                 content,
                 requestPage.getNumber(),
                 requestPage.getSize(),
-                content.size(),
-                (int) Math.ceil((double) content.size() / filterDTO.getSize()),
-                content.size() <= filterDTO.getSize()
+                requestPage.getTotalElements(),
+                requestPage.getTotalPages(),
+                requestPage.isLast()
         );
     }
     
+    // Runs outside the request thread, so access is checked by the controller before streaming starts
+    public void exportRequests(RequestFilterDTO filterDTO, ExportFormat format, OutputStream out) throws IOException {
+        LinkedHashMap<String, Function<SpecialRequestDTO, Object>> columns = new LinkedHashMap<>();
+        columns.put("id", SpecialRequestDTO::getId);
+        columns.put("userId", SpecialRequestDTO::getUserId);
+        columns.put("userName", SpecialRequestDTO::getUserName);
+        columns.put("areaId", SpecialRequestDTO::getAreaId);
+        columns.put("areaName", SpecialRequestDTO::getAreaName);
+        columns.put("requestDate", SpecialRequestDTO::getRequestDate);
+        columns.put("status", SpecialRequestDTO::getStatus);
+        columns.put("description", SpecialRequestDTO::getDescription);
+        columns.put("adminNote", SpecialRequestDTO::getAdminNote);
+        
+        try (Stream<SpecialRequest> requests =
+                     specialRequestRepository.streamFiltered(filterDTO, recordExporter.getBatchSize())) {
+            recordExporter.export(requests, this::mapToDTOs, format, columns, out);
+        }
+    }
+    
+    private String filterSignature(RequestFilterDTO filterDTO) {
+        return "special_requests:userId=" + filterDTO.getUserId()
+                + ",areaId=" + filterDTO.getAreaId()
+                + ",status=" + filterDTO.getStatus()
+                + ",start=" + filterDTO.getStartDate()
+                + ",end=" + filterDTO.getEndDate();
+    }
+    
     public SpecialRequestDTO updateRequestStatus(String id, RequestStatusUpdateDTO statusUpdate) {
         // Check if user is admin
-        if (!isCurrentUserAdmin()) {
+        if (!currentUserProvider.isCurrentUserAdmin()) {
             throw new UnauthorizedException("You do not have permission to update request status");
         }
         
-        SpecialRequest request = specialRequestRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Special request not found with id: " + id));
-        
-        // Can only update pending requests
-        if (request.getStatus() != SpecialRequest.RequestStatus.PENDING) {
-            throw new BadRequestException("Cannot update already processed request");
-        }
-        
-        request.setStatus(statusUpdate.getStatus());
-        request.setAdminNote(statusUpdate.getAdminNote());
+        // Can only update pending requests; the check is part of the update itself
+        SpecialRequest updatedRequest = specialRequestRepository
+                .transitionPending(id, null, statusUpdate.getStatus(), statusUpdate.getAdminNote())
+                .orElseThrow(() -> transitionFailure(id, null, "Cannot update already processed request"));
         
-        SpecialRequest updatedRequest = specialRequestRepository.save(request);
+        dashboardCounterService.requestStatusChanged(
+                SpecialRequest.RequestStatus.PENDING, updatedRequest.getStatus(), 1);
         
         return mapToDTO(updatedRequest);
     }
     
-    public SpecialRequestDTO cancelRequest(String id) {
-        // Get current user
-        String currentUserEmail = getCurrentUserEmail();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new UnauthorizedException("User not authenticated"));
-        
-        SpecialRequest request = specialRequestRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Special request not found with id: " + id));
-        
-        // Verify ownership
-        if (!request.getUserId().equals(currentUser.getId())) {
-            throw new UnauthorizedException("You do not have permission to cancel this request");
+    public BulkStatusUpdateResultDTO updateRequestStatuses(BulkStatusUpdateDTO bulkUpdate) {
+        if (!currentUserProvider.isCurrentUserAdmin()) {
+            throw new UnauthorizedException("You do not have permission to update request status");
+        }
+        if (bulkUpdate.getStatus() == SpecialRequest.RequestStatus.PENDING) {
+            throw new BadRequestException("Requests can only be moved out of PENDING");
         }
         
-        // Can only cancel pending requests
-        if (request.getStatus() != SpecialRequest.RequestStatus.PENDING) {
-            throw new BadRequestException("Cannot cancel already processed request");
+        long updated;
+        long skipped;
+        if (bulkUpdate.getIds() != null && !bulkUpdate.getIds().isEmpty()) {
+            Set<String> ids = new HashSet<>(bulkUpdate.getIds());
+            updated = specialRequestRepository.updatePendingStatus(ids, bulkUpdate.getStatus(), bulkUpdate.getAdminNote());
+            skipped = ids.size() - updated;
+        } else if (bulkUpdate.getFilter() != null) {
+            // An empty filter (or one naming only the status) would transition every pending request
+            if (!narrowsSelection(bulkUpdate.getFilter())) {
+                throw new BadRequestException("A bulk filter needs at least one of userId, areaId, startDate or endDate");
+            }
+            long matching = specialRequestRepository.countFiltered(bulkUpdate.getFilter());
+            updated = specialRequestRepository.updatePendingStatus(
+                    bulkUpdate.getFilter(), bulkUpdate.getStatus(), bulkUpdate.getAdminNote());
+            skipped = Math.max(0, matching - updated);
+        } else {
+            throw new BadRequestException("Either ids or a filter is required");
         }
         
-        request.setStatus(SpecialRequest.RequestStatus.REJECTED);
-        request.setAdminNote("Cancelled by user");
+        dashboardCounterService.requestStatusChanged(SpecialRequest.RequestStatus.PENDING, bulkUpdate.getStatus(), updated);
+        return new BulkStatusUpdateResultDTO(updated, skipped);
+    }
+    
+    private boolean narrowsSelection(RequestFilterDTO filter) {
+        return StringUtils.hasText(filter.getUserId())
+                || StringUtils.hasText(filter.getAreaId())
+                || filter.getStartDate() != null
+                || filter.getEndDate() != null;
+    }
+    
+    public SpecialRequestDTO cancelRequest(String id) {
+        // Get current user
+        UserDetailsImpl currentUser = currentUserProvider.getCurrentUser();
+        
+        // Ownership and the pending status are both part of the update's match
+        SpecialRequest updatedRequest = specialRequestRepository
+                .transitionPending(id, currentUser.getId(), SpecialRequest.RequestStatus.REJECTED, "Cancelled by user")
+                .orElseThrow(() -> transitionFailure(id, currentUser.getId(), "Cannot cancel already processed request"));
         
-        SpecialRequest updatedRequest = specialRequestRepository.save(request);
+        dashboardCounterService.requestStatusChanged(
+                SpecialRequest.RequestStatus.PENDING, SpecialRequest.RequestStatus.REJECTED, 1);
         
         return mapToDTO(updatedRequest);
     }
     
+    // Only read when a transition did not apply, to report why
+    private RuntimeException transitionFailure(String id, String userId, String processedMessage) {
+        SpecialRequest request = specialRequestRepository.findById(id).orElse(null);
+        if (request == null) {
+            return new ResourceNotFoundException("Special request not found with id: " + id);
+        }
+        if (userId != null && !userId.equals(request.getUserId())) {
+            return new UnauthorizedException("You do not have permission to cancel this request");
+        }
+        return new BadRequestException(processedMessage);
+    }
+    
     public void deleteRequest(String id) {
         // Only admins can delete requests
-        if (!isCurrentUserAdmin()) {
+        if (!currentUserProvider.isCurrentUserAdmin()) {
             throw new UnauthorizedException("You do not have permission to delete requests");
         }
         
-        if (!specialRequestRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Special request not found with id: " + id);
-        }
+        SpecialRequest request = specialRequestRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Special request not found with id: " + id));
         
         specialRequestRepository.deleteById(id);
+        dashboardCounterService.requestDeleted(request);
     }
     
     private SpecialRequestDTO mapToDTO(SpecialRequest request) {
-    SpecialRequestDTO requestDTO = new SpecialRequestDTO();
-    requestDTO.setId(request.getId());
-    requestDTO.setUserId(request.getUserId());
-    requestDTO.setAreaId(request.getAreaId());
-    requestDTO.setRequestDate(request.getRequestDate());
-    requestDTO.setStatus(request.getStatus());
-    requestDTO.setDescription(request.getDescription());
-    requestDTO.setAdminNote(request.getAdminNote());
-    
-    // Fetch area name and user name for display purposes
-    areaRepository.findById(request.getAreaId())
-            .ifPresent(area -> requestDTO.setAreaName(area.getName()));
-            
-    userRepository.findById(request.getUserId())
-            .ifPresent(user -> requestDTO.setUserName(user.getFullName()));
+        return mapToDTOs(List.of(request)).get(0);
+    }
     
-    return requestDTO;
-}
-
-private String getCurrentUserEmail() {
-    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-    return authentication.getName();
-}
-
-private boolean isCurrentUserAdmin() {
-    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-    return authentication.getAuthorities().stream()
-            .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+    private List<SpecialRequestDTO> mapToDTOs(List<SpecialRequest> requests) {
+        if (requests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // Resolve user names with one query; area names missing a snapshot come from the registry
+        Set<String> areaIds = requests.stream()
+                .filter(request -> request.getAreaName() == null)
+                .map(SpecialRequest::getAreaId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> userIds = requests.stream()
+                .map(SpecialRequest::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        
+        Map<String, String> areaNames = new HashMap<>();
+        areaIds.forEach(areaId -> areaRegistry.findById(areaId)
+                .ifPresent(area -> areaNames.put(areaId, area.getName())));
+        
+        Map<String, String> userNames = new HashMap<>();
+        userRepository.findAllById(userIds).forEach(user -> userNames.put(user.getId(), user.getFullName()));
+        
+        return requests.stream()
+                .map(request -> {
+                    SpecialRequestDTO requestDTO = new SpecialRequestDTO();
+                    requestDTO.setId(request.getId());
+                    requestDTO.setUserId(request.getUserId());
+                    requestDTO.setAreaId(request.getAreaId());
+                    requestDTO.setRequestDate(request.getRequestDate());
+                    requestDTO.setStatus(request.getStatus());
+                    requestDTO.setDescription(request.getDescription());
+                    requestDTO.setAdminNote(request.getAdminNote());
+                    requestDTO.setAreaName(request.getAreaName() != null
+                            ? request.getAreaName() : areaNames.get(request.getAreaId()));
+                    requestDTO.setUserName(userNames.get(request.getUserId()));
+                    return requestDTO;
+                })
+                .collect(Collectors.toList());
+    }
 }
-
-}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.garbageapp.service;
 
 import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.dto.TotalMode;
 import com.example.garbageapp.dto.UserDTO;
 import com.example.garbageapp.dto.UserRoleUpdateDTO;
 import com.example.garbageapp.exception.BadRequestException;
@@ -9,14 +10,17 @@ import com.example.garbageapp.exception.UnauthorizedException;
 import com.example.garbageapp.model.Role;
 import com.example.garbageapp.model.User;
 import com.example.garbageapp.repository.UserRepository;
+import com.example.garbageapp.security.CurrentUserProvider;
+import com.example.garbageapp.security.UserDetailsCache;
+import com.example.garbageapp.security.UserDetailsImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.util.HashSet;
 import java.util.List;
@@ -28,11 +32,21 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DashboardCounterService dashboardCounterService;
+    private final UserDetailsCache userDetailsCache;
+    private final CurrentUserProvider currentUserProvider;
+    private final PageTotals pageTotals;
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       DashboardCounterService dashboardCounterService, UserDetailsCache userDetailsCache,
+                       CurrentUserProvider currentUserProvider, PageTotals pageTotals) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.dashboardCounterService = dashboardCounterService;
+        this.userDetailsCache = userDetailsCache;
+        this.currentUserProvider = currentUserProvider;
+        this.pageTotals = pageTotals;
     }
 
     public UserDTO getUserById(String id) {
@@ -46,25 +60,44 @@ public class UserService {
     
     public UserDTO getCurrentUser() {
         try {
-            String currentUserEmail = getCurrentUserEmail();
-            if (currentUserEmail == null) {
-                throw new UnauthorizedException("No authenticated user found");
-            }
+            // Built from the authenticated principal, which already holds the user's profile
+            UserDetailsImpl currentUser = currentUserProvider.getCurrentUser();
             
-            User user = userRepository.findByEmail(currentUserEmail)
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + currentUserEmail));
-            
-            return mapToDTO(user);
+            UserDTO userDTO = new UserDTO();
+            userDTO.setId(currentUser.getId());
+            userDTO.setFullName(currentUser.getFullName());
+            userDTO.setEmail(currentUser.getUsername());
+            userDTO.setPhoneNumber(currentUser.getPhoneNumber());
+            userDTO.setRoles(currentUser.getRoles());
+            userDTO.setActive(currentUser.isEnabled());
+            userDTO.setCreatedAt(currentUser.getCreatedAt());
+            return userDTO;
         } catch (Exception e) {
             logger.error("Error in getCurrentUser: {}", e.getMessage(), e);
             throw e;
         }
     }
     
-    public PagedResponse<UserDTO> getAllUsers(int page, int size) {
+    public PagedResponse<UserDTO> getAllUsers(int page, int size, String cursor, TotalMode totalMode) {
         checkAdminAccess();
         
+        if (cursor != null) {
+            PageCursor position = PageCursor.decode(cursor);
+            List<User> fetched = userRepository.findPageAfter(position.sortValue(), position.id(), size + 1);
+            
+            return PageCursor.toPagedResponse(fetched, size, User::getFullName, User::getId,
+                    users -> users.stream().map(this::mapToDTO).collect(Collectors.toList()));
+        }
+        
         PageRequest pageable = PageRequest.of(page, size, Sort.by("fullName").ascending());
+        if (totalMode != TotalMode.EXACT) {
+            Slice<User> userSlice = userRepository.findSliceBy(pageable);
+            List<UserDTO> content = userSlice.getContent().stream()
+                    .map(this::mapToDTO)
+                    .collect(Collectors.toList());
+            return PagedResponse.of(userSlice, content, pageTotals.unfiltered(totalMode, User.class));
+        }
+        
         var userPage = userRepository.findAll(pageable);
         
         List<UserDTO> content = userPage.getContent().stream()
@@ -90,6 +123,7 @@ public class UserService {
         user.setRoles(roleUpdateDTO.getRoles());
         
         User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(updatedUser.getEmail());
         return mapToDTO(updatedUser);
     }
     
@@ -101,11 +135,13 @@ public class UserService {
         
         user.setActive(active);
         User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(updatedUser.getEmail());
         
         return mapToDTO(updatedUser);
     }
     
     public UserDTO createUser(UserDTO userDTO) {
+        requireFullName(userDTO);
         if (userRepository.existsByEmail(userDTO.getEmail())) {
             throw new BadRequestException("Email is already taken");
         }
@@ -118,10 +154,14 @@ public class UserService {
         user.setRoles(userDTO.getRoles());
         user.setActive(true);
 
-        return mapToDTO(userRepository.save(user));
+        User savedUser = userRepository.save(user);
+        dashboardCounterService.userCreated();
+        
+        return mapToDTO(savedUser);
     }
     
     public UserDTO updateUser(String id, UserDTO userDTO) {
+        requireFullName(userDTO);
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
@@ -130,6 +170,7 @@ public class UserService {
             throw new BadRequestException("Email is already taken");
         }
 
+        String previousEmail = user.getEmail();
         user.setFullName(userDTO.getFullName());
         user.setEmail(userDTO.getEmail());
         if (userDTO.getPassword() != null && !userDTO.getPassword().isEmpty()) {
@@ -137,7 +178,18 @@ public class UserService {
         }
         user.setPhoneNumber(userDTO.getPhoneNumber());
 
-        return mapToDTO(userRepository.save(user));
+        User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(previousEmail);
+        userDetailsCache.evict(updatedUser.getEmail());
+        
+        return mapToDTO(updatedUser);
+    }
+    
+    // fullName is the keyset sort key of the user list, so it must never be stored empty
+    private void requireFullName(UserDTO userDTO) {
+        if (!StringUtils.hasText(userDTO.getFullName())) {
+            throw new BadRequestException("Full name is required");
+        }
     }
     
     private UserDTO mapToDTO(User user) {
@@ -152,17 +204,8 @@ public class UserService {
         return userDTO;
     }
     
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return authentication.getName();
-    }
-    
     private void checkAdminAccess() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        boolean isAdmin = authentication.getAuthorities().stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
-                
-        if (!isAdmin) {
+        if (!currentUserProvider.isCurrentUserAdmin()) {
             throw new UnauthorizedException("Admin access required");
         }
     }
@@ -0,0 +1,104 @@
+package com.example.garbageapp;
+
+import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.dto.SpecialRequestDTO;
+import com.example.garbageapp.dto.TotalMode;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.model.User;
+import com.example.garbageapp.repository.SpecialRequestRepository;
+import com.example.garbageapp.repository.UserRepository;
+import com.example.garbageapp.security.CurrentUserProvider;
+import com.example.garbageapp.service.SpecialRequestService;
+import com.example.garbageapp.support.MongoTestServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.example.garbageapp.support.QueryCountAssertions.assertMaxQueries;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DbQueryAccountingTests {
+
+    private static final int REQUESTS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SpecialRequestService specialRequestService;
+
+    @Autowired
+    private SpecialRequestRepository specialRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private CurrentUserProvider currentUserProvider;
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        MongoTestServer.register(registry);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        specialRequestRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void responsesReportTheirDatabaseCommands() throws Exception {
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"nobody@example.com\", \"password\": \"wrong-password\"}"))
+                .andExpect(header().string("X-Db-Query-Count", matchesPattern("[1-9][0-9]*")))
+                .andExpect(header().exists("X-Db-Time"));
+    }
+
+    // Owner names are resolved with one findAllById, not one lookup per request
+    @Test
+    void requestPageDoesNotQueryPerRequest() throws Throwable {
+        for (int i = 0; i < REQUESTS; i++) {
+            User user = new User();
+            user.setFullName("Owner " + i);
+            user.setEmail("owner" + i + "@example.com");
+            user.setPhoneNumber("07000000" + String.format("%02d", i));
+            user = userRepository.save(user);
+
+            SpecialRequest request = new SpecialRequest();
+            request.setUserId(user.getId());
+            request.setAreaId("area");
+            request.setAreaName("North");
+            request.setRequestDate(LocalDate.now().plusDays(i));
+            request.setStatus(SpecialRequest.RequestStatus.PENDING);
+            specialRequestRepository.save(request);
+        }
+        when(currentUserProvider.isCurrentUserAdmin()).thenReturn(true);
+
+        AtomicReference<PagedResponse<SpecialRequestDTO>> page = new AtomicReference<>();
+        // Page query, count and one batched user lookup
+        assertMaxQueries(3, () -> page.set(specialRequestService.getAllRequests(0, REQUESTS, null, TotalMode.EXACT)));
+
+        assertEquals(REQUESTS, page.get().getContent().size());
+        assertEquals("Owner 0", page.get().getContent().get(REQUESTS - 1).getUserName());
+    }
+}
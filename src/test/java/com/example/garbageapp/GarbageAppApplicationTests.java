@@ -1,13 +1,25 @@
 package com.example.garbageapp;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest
 class GarbageAppApplicationTests {
 
+	@Autowired
+	private ApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void noReactiveMongoClientWithoutReactiveProfile() {
+		assertEquals(0, context.getBeanNamesForType(com.mongodb.reactivestreams.client.MongoClient.class).length);
+	}
+
 }
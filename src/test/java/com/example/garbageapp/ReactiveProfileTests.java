@@ -0,0 +1,67 @@
+package com.example.garbageapp;
+
+import com.example.garbageapp.security.CurrentUserProvider;
+import com.example.garbageapp.support.MongoTestServer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "reactive"})
+class ReactiveProfileTests {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CurrentUserProvider currentUserProvider;
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        MongoTestServer.register(registry);
+    }
+
+    @Test
+    void reactiveProfileCreatesTheReactiveClient() {
+        assertEquals(1, context.getBeanNamesForType(com.mongodb.reactivestreams.client.MongoClient.class).length);
+        assertEquals(1, context.getBeanNamesForType(ReactiveMongoTemplate.class).length);
+    }
+
+    // The body is written on the async dispatch, after the request's query scope has closed
+    @Test
+    @WithMockUser
+    void asyncResponsesCarryNoQueryCountHeaders() throws Exception {
+        when(currentUserProvider.getCurrentUserId()).thenReturn("user");
+
+        MvcResult started = mockMvc.perform(get("/rx/dashboard/user/stats"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Db-Query-Count"))
+                .andExpect(header().doesNotExist("X-Db-Time"));
+    }
+}
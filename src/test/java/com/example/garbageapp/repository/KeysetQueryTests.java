@@ -0,0 +1,59 @@
+package com.example.garbageapp.repository;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KeysetQueryTests {
+
+    private static final String ID = "65f0c0ffee0000000000abcd";
+
+    @Test
+    void firstPageSkipsMissingSortKeys() {
+        Query query = KeysetQuery.after(new Query(), "fullName", Sort.Direction.ASC, null, null, 11);
+
+        assertEquals(new Document("fullName", new Document("$ne", null)), query.getQueryObject());
+        assertEquals(new Document("fullName", 1).append("_id", 1), query.getSortObject());
+        assertEquals(11, query.getLimit());
+    }
+
+    @Test
+    void ascendingSeeksPastValueThenId() {
+        Query query = KeysetQuery.after(new Query(), "fullName", Sort.Direction.ASC, "Bob", ID, 11);
+
+        assertEquals(List.of(
+                new Document("fullName", new Document("$gt", "Bob")),
+                new Document("$and", List.of(
+                        new Document("fullName", "Bob"),
+                        new Document("_id", new Document("$gt", new ObjectId(ID)))))),
+                query.getQueryObject().get("$or"));
+    }
+
+    @Test
+    void descendingSeekHasNoNullBranch() {
+        Query query = KeysetQuery.after(new Query(), "requestDate", Sort.Direction.DESC, "2026-10-18", ID, 11);
+
+        assertEquals(List.of(
+                new Document("requestDate", new Document("$lt", "2026-10-18")),
+                new Document("$and", List.of(
+                        new Document("requestDate", "2026-10-18"),
+                        new Document("_id", new Document("$lt", new ObjectId(ID)))))),
+                query.getQueryObject().get("$or"));
+        assertEquals(new Document("requestDate", -1).append("_id", -1), query.getSortObject());
+    }
+
+    @Test
+    void nonObjectIdIsComparedAsString() {
+        Query query = KeysetQuery.after(new Query(), "fullName", Sort.Direction.ASC, "Bob", "legacy-id", 11);
+
+        Document sameValue = (Document) ((List<?>) query.getQueryObject().get("$or")).get(1);
+        assertEquals(new Document("_id", new Document("$gt", "legacy-id")),
+                ((List<?>) sameValue.get("$and")).get(1));
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.garbageapp.repository;
+
+import com.example.garbageapp.dto.RequestFilterDTO;
+import com.example.garbageapp.dto.ScheduleFilterDTO;
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Role;
+import com.example.garbageapp.model.Schedule;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.model.User;
+import com.example.garbageapp.support.MongoTestServer;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs every repository finder against a real mongod, captures the commands it sends and
+ * fails if the winning plan of any of them is a collection scan or an in-memory sort.
+ * <p>
+ * The mongod is the configured test DB (see {@link MongoTestServer}). Without one the class is skipped,
+ * unless {@code -Dmongo.plan-tests.required=true} is set, which turns the skip into a failure so a CI job
+ * that provides a mongod cannot silently stop checking plans.
+ * <p>
+ * {@code countGroupedByStatus} and {@code countGroupedByZone} are excluded: they $group the whole
+ * collection, so a collection scan is their correct plan, and they only run when the dashboard
+ * counters are rebuilt by the nightly reconcile.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RepositoryQueryPlanTests {
+
+    private static final Set<String> EXPLAINABLE = Set.of("find", "aggregate");
+    private static final Set<String> FORBIDDEN_STAGES = Set.of("COLLSCAN", "SORT");
+    // Enough documents per user, area and status that an index is clearly cheaper than a scan
+    private static final int SEED_SIZE = 500;
+
+    private static final List<Document> captured = Collections.synchronizedList(new ArrayList<>());
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private SpecialRequestRepository specialRequestRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private AreaRepository areaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @TestConfiguration
+    static class CommandCaptureConfig {
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCapture() {
+            return builder -> builder.addCommandListener(new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    if (EXPLAINABLE.contains(event.getCommandName())) {
+                        captured.add(Document.parse(event.getCommand().toJson()));
+                    }
+                }
+            });
+        }
+    }
+
+    private String userId;
+    private String areaId;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        MongoTestServer.register(registry);
+    }
+
+    @BeforeAll
+    static void requireMongod() {
+        if (MongoTestServer.mongodAvailable()) {
+            return;
+        }
+        String reason = "No mongod reachable at " + MongoTestServer.configuredUri();
+        if (Boolean.getBoolean("mongo.plan-tests.required")) {
+            fail(reason);
+        }
+        Assumptions.abort(reason);
+    }
+
+    @BeforeEach
+    void seed() {
+        List<Area> areas = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Area area = new Area();
+            area.setName("Plan Area " + i);
+            area.setZone("Plan Zone " + i % 3);
+            area.setPickupDays(List.of("MONDAY"));
+            areas.add(area);
+
+            User user = new User();
+            user.setFullName("Plan User " + i);
+            user.setEmail("plan.user" + i + "@example.com");
+            user.setPhoneNumber("070000000" + i);
+            user.setRoles(Set.of(Role.ROLE_USER));
+            users.add(user);
+        }
+        areas = areaRepository.saveAll(areas);
+        users = userRepository.saveAll(users);
+        areaId = areas.get(0).getId();
+        userId = users.get(0).getId();
+
+        SpecialRequest.RequestStatus[] statuses = SpecialRequest.RequestStatus.values();
+        Schedule.ScheduleType[] types = Schedule.ScheduleType.values();
+        List<SpecialRequest> requests = new ArrayList<>();
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < SEED_SIZE; i++) {
+            SpecialRequest request = new SpecialRequest();
+            request.setUserId(users.get(i % users.size()).getId());
+            request.setAreaId(areas.get(i % areas.size()).getId());
+            request.setRequestDate(LocalDate.now().plusDays(i % 60));
+            request.setStatus(statuses[i % statuses.length]);
+            requests.add(request);
+
+            Schedule schedule = new Schedule();
+            schedule.setAreaId(areas.get(i % areas.size()).getId());
+            schedule.setPickupDate(LocalDateTime.now().plusHours(i * 3L));
+            schedule.setType(types[i % types.length]);
+            schedules.add(schedule);
+        }
+        specialRequestRepository.saveAll(requests);
+        scheduleRepository.saveAll(schedules);
+
+        captured.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        specialRequestRepository.deleteAll();
+        scheduleRepository.deleteAll();
+        areaRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void specialRequestFindersUseIndexes() {
+        PageRequest byRequestDate = PageRequest.of(0, 10, Sort.by("requestDate").descending());
+        LocalDate today = LocalDate.now();
+
+        specialRequestRepository.findByUserId(userId);
+        specialRequestRepository.findByUserId(userId, byRequestDate);
+        specialRequestRepository.findByAreaId(areaId);
+        specialRequestRepository.findByAreaId(areaId, byRequestDate);
+        specialRequestRepository.findByStatus(SpecialRequest.RequestStatus.PENDING);
+        specialRequestRepository.findByStatus(SpecialRequest.RequestStatus.PENDING, byRequestDate);
+        specialRequestRepository.findByRequestDateBetween(today, today.plusDays(7));
+        specialRequestRepository.findByUserIdAndStatus(userId, SpecialRequest.RequestStatus.PENDING);
+        specialRequestRepository.countByStatus(SpecialRequest.RequestStatus.PENDING);
+        specialRequestRepository.countByUserIdAndStatus(userId, SpecialRequest.RequestStatus.PENDING);
+        specialRequestRepository.findAll(byRequestDate);
+        specialRequestRepository.findPageAfter(null, today, "000000000000000000000000", 11);
+        specialRequestRepository.findPageAfter(userId, today, "000000000000000000000000", 11);
+
+        RequestFilterDTO filter = new RequestFilterDTO();
+        specialRequestRepository.filter(filter, byRequestDate);
+        filter.setStatus(SpecialRequest.RequestStatus.APPROVED);
+        filter.setStartDate(today);
+        specialRequestRepository.filter(filter, byRequestDate);
+        filter.setAreaId(areaId);
+        filter.setEndDate(today.plusDays(30));
+        specialRequestRepository.filter(filter, byRequestDate);
+
+        assertIndexedPlans();
+    }
+
+    @Test
+    void scheduleFindersUseIndexes() {
+        PageRequest byPickupDate = PageRequest.of(0, 10, Sort.by("pickupDate").ascending());
+        LocalDateTime now = LocalDateTime.now();
+
+        scheduleRepository.findByAreaId(areaId);
+        scheduleRepository.findByAreaId(areaId, byPickupDate);
+        scheduleRepository.findByAreaIdAndType(areaId, Schedule.ScheduleType.REGULAR);
+        scheduleRepository.findByPickupDateBetween(now, now.plusWeeks(1));
+        scheduleRepository.findByAreaIdAndPickupDateBetween(areaId, now, now.plusWeeks(1));
+        scheduleRepository.countByPickupDateBetween(now, now.plusWeeks(1));
+        scheduleRepository.findAll(byPickupDate);
+        scheduleRepository.findPageAfter(null, now, "000000000000000000000000", 11);
+        scheduleRepository.findPageAfter(areaId, now, "000000000000000000000000", 11);
+
+        ScheduleFilterDTO filter = new ScheduleFilterDTO();
+        scheduleRepository.filter(filter, byPickupDate);
+        filter.setType(Schedule.ScheduleType.SPECIAL);
+        scheduleRepository.filter(filter, byPickupDate);
+        filter.setAreaId(areaId);
+        scheduleRepository.filter(filter, byPickupDate);
+
+        assertIndexedPlans();
+    }
+
+    @Test
+    void areaAndUserFindersUseIndexes() {
+        areaRepository.findByName("Plan Area 0");
+        areaRepository.findByZone("Plan Zone 0");
+        areaRepository.existsByName("Plan Area 0");
+        areaRepository.findAll(Sort.by("name").ascending());
+
+        userRepository.findByEmail("plan.user0@example.com");
+        userRepository.existsByEmail("plan.user0@example.com");
+        userRepository.existsByPhoneNumber("0700000000");
+        userRepository.findAll(PageRequest.of(0, 10, Sort.by("fullName").ascending()));
+        userRepository.findPageAfter("Plan User 0", "000000000000000000000000", 11);
+
+        assertIndexedPlans();
+    }
+
+    private void assertIndexedPlans() {
+        List<Document> commands = new ArrayList<>(captured);
+        assertTrue(!commands.isEmpty(), "No commands were captured");
+
+        for (Document command : commands) {
+            Document explain = mongoTemplate.getDb().runCommand(
+                    new Document("explain", stripEnvelope(command)).append("verbosity", "queryPlanner"));
+
+            List<String> stages = new ArrayList<>();
+            collectWinningStages(explain, false, stages);
+            stages.stream()
+                    .filter(FORBIDDEN_STAGES::contains)
+                    .findFirst()
+                    .ifPresent(stage -> fail(stage + " in winning plan of " + command.toJson()));
+        }
+    }
+
+    private Document stripEnvelope(Document command) {
+        Document stripped = new Document();
+        command.forEach((key, value) -> {
+            if (!key.startsWith("$") && !key.equals("lsid") && !key.equals("txnNumber")) {
+                stripped.put(key, value);
+            }
+        });
+        return stripped;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collectWinningStages(Object node, boolean inWinningPlan, List<String> stages) {
+        if (node instanceof Document document) {
+            if (inWinningPlan && document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            document.forEach((key, value) -> {
+                if (!key.equals("rejectedPlans")) {
+                    collectWinningStages(value, inWinningPlan || key.equals("winningPlan"), stages);
+                }
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(item -> collectWinningStages(item, inWinningPlan, stages));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.garbageapp.repository;
+
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.support.MongoTestServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Races admin approvals against owner cancellations on the same pending request and checks
+ * that exactly one transition is applied and the stored status belongs to that winner.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SpecialRequestTransitionTests {
+
+    private static final int ROUNDS = 20;
+    private static final int CONTENDERS = 16;
+
+    @Autowired
+    private SpecialRequestRepository specialRequestRepository;
+
+    @DynamicPropertySource
+    static void mongo(DynamicPropertyRegistry registry) {
+        MongoTestServer.register(registry);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        specialRequestRepository.deleteAll();
+    }
+
+    @Test
+    void conflictingTransitionsHaveExactlyOneWinner() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                SpecialRequest request = new SpecialRequest();
+                request.setUserId("owner");
+                request.setAreaId("area");
+                request.setRequestDate(LocalDate.now().plusDays(1));
+                request.setStatus(SpecialRequest.RequestStatus.PENDING);
+                String id = specialRequestRepository.save(request).getId();
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Optional<SpecialRequest>>> attempts = new ArrayList<>();
+                for (int i = 0; i < CONTENDERS; i++) {
+                    boolean cancel = i % 2 == 0;
+                    attempts.add(executor.submit(() -> {
+                        start.await();
+                        return cancel
+                                ? specialRequestRepository.transitionPending(
+                                        id, "owner", SpecialRequest.RequestStatus.REJECTED, "Cancelled by user")
+                                : specialRequestRepository.transitionPending(
+                                        id, null, SpecialRequest.RequestStatus.APPROVED, "Approved");
+                    }));
+                }
+                start.countDown();
+
+                List<SpecialRequest> winners = new ArrayList<>();
+                for (Future<Optional<SpecialRequest>> attempt : attempts) {
+                    attempt.get().ifPresent(winners::add);
+                }
+
+                assertEquals(1, winners.size(), "round " + round);
+                SpecialRequest stored = specialRequestRepository.findById(id).orElseThrow();
+                assertEquals(winners.get(0).getStatus(), stored.getStatus());
+                assertEquals(winners.get(0).getAdminNote(), stored.getAdminNote());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancelRequiresOwnership() {
+        SpecialRequest request = new SpecialRequest();
+        request.setUserId("owner");
+        request.setAreaId("area");
+        request.setRequestDate(LocalDate.now().plusDays(1));
+        request.setStatus(SpecialRequest.RequestStatus.PENDING);
+        String id = specialRequestRepository.save(request).getId();
+
+        assertTrue(specialRequestRepository.transitionPending(
+                id, "someone-else", SpecialRequest.RequestStatus.REJECTED, "Cancelled by user").isEmpty());
+        assertEquals(SpecialRequest.RequestStatus.PENDING,
+                specialRequestRepository.findById(id).orElseThrow().getStatus());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.repository.AreaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unknown ids must not turn every lookup into a database read and a full reload.
+ */
+class AreaRegistryTests {
+
+    private AreaRepository areaRepository;
+    private AreaRegistry areaRegistry;
+
+    @BeforeEach
+    void setUp() {
+        Area area = new Area();
+        area.setId("area-1");
+        area.setName("North");
+        areaRepository = mock(AreaRepository.class);
+        when(areaRepository.findAll(any(Sort.class))).thenReturn(List.of(area));
+        when(areaRepository.findById("bogus")).thenReturn(Optional.empty());
+        areaRegistry = new AreaRegistry(areaRepository, 30);
+        areaRegistry.refresh();
+    }
+
+    @Test
+    void missingIdIsLookedUpOnceAndNeverReloads() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(areaRegistry.findById("bogus").isEmpty());
+        }
+
+        verify(areaRepository, times(1)).findById("bogus");
+        verify(areaRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void refreshForgetsMissingIds() {
+        areaRegistry.findById("bogus");
+        areaRegistry.refresh();
+        areaRegistry.findById("bogus");
+
+        verify(areaRepository, times(2)).findById("bogus");
+    }
+}
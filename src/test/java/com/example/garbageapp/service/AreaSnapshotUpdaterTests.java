@@ -0,0 +1,64 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Schedule;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.repository.AreaRepository;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Every request whose zone changes moves between zone counters, including the ones that had no zone.
+ */
+class AreaSnapshotUpdaterTests {
+
+    @Test
+    void requestsWithoutZoneAreCountedIntoTheNewZone() {
+        Area area = new Area();
+        area.setId("area-1");
+        area.setName("North");
+        area.setZone("Zone B");
+        AreaRepository areaRepository = mock(AreaRepository.class);
+        when(areaRepository.findById("area-1")).thenReturn(Optional.of(area));
+
+        Map<String, Long> stale = new HashMap<>(Map.of("Zone A", 3L, "null", 2L));
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.findDistinct(any(Query.class), eq("zone"), eq(SpecialRequest.class), eq(String.class)))
+                .thenReturn(Arrays.asList("Zone A", null))
+                .thenReturn(List.of());
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(Schedule.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(mongoTemplate.updateMulti(any(Query.class), any(UpdateDefinition.class), eq(SpecialRequest.class)))
+                .thenAnswer(invocation -> {
+                    // Two requests have no zone and three are on Zone A; once rewritten they no longer match
+                    Document query = invocation.getArgument(0, Query.class).getQueryObject();
+                    Long modified = query.containsKey("zone") ? stale.remove(String.valueOf(query.get("zone"))) : null;
+                    long count = modified != null ? modified : 0;
+                    return UpdateResult.acknowledged(count, count, null);
+                });
+        DashboardCounterService counters = mock(DashboardCounterService.class);
+
+        new AreaSnapshotUpdater(mongoTemplate, areaRepository, counters).propagate("area-1");
+
+        verify(counters).requestsMovedZone("Zone A", "Zone B", 3);
+        verify(counters).requestsMovedZone(null, "Zone B", 2);
+        verify(counters, never()).requestsMovedZone(eq("Zone B"), any(), any(Long.class));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.garbageapp.service;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class DashboardCounterKeyTests {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"North", "", "St. Mary", "$where", "a.b.c", "100%", "%2E", "%", "x$y.z%24"})
+    void zoneKeysAreSafeFieldNamesAndRoundTrip(String zone) {
+        String key = DashboardCounterService.fieldKey(zone);
+
+        assertFalse(key.isEmpty());
+        assertFalse(key.contains("."));
+        assertFalse(key.contains("$"));
+        assertEquals(zone, DashboardCounterService.fromFieldKey(key));
+    }
+}
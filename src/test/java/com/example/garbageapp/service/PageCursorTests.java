@@ -0,0 +1,61 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.dto.PagedResponse;
+import com.example.garbageapp.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageCursorTests {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Alice", "", "null", "a|b", "=x", "!", "2026-10-18"})
+    void valuesRoundTrip(String sortValue) {
+        PageCursor decoded = PageCursor.decode(new PageCursor(sortValue, "65f0c0ffee0000000000abcd").encode());
+
+        assertEquals(sortValue, decoded.sortValue());
+        assertEquals("65f0c0ffee0000000000abcd", decoded.id());
+        assertFalse(decoded.isStart());
+    }
+
+    @Test
+    void missingCursorIsTheStart() {
+        assertTrue(PageCursor.decode(null).isStart());
+        assertTrue(PageCursor.decode("").isStart());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "novalue", "=x", "|id", "!|id", "!x|id", "?x|id"})
+    void malformedCursorsAreRejected(String raw) {
+        String cursor = raw.equals("not base64!") ? raw
+                : Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> PageCursor.decode(cursor));
+    }
+
+    @Test
+    void nextCursorPointsAtTheLastReturnedItem() {
+        List<LocalDate> dates = List.of(LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20));
+
+        PagedResponse<String> page = PageCursor.toPagedResponse(dates, 2, Function.identity(),
+                date -> "65f0c0ffee0000000000000" + dates.indexOf(date),
+                items -> items.stream().map(String::valueOf).toList());
+
+        PageCursor next = PageCursor.decode(page.getNextCursor());
+        assertEquals(LocalDate.of(2026, 10, 19), next.sortValueAsDate());
+        assertEquals("65f0c0ffee00000000000001", next.id());
+        assertEquals(2, page.getContent().size());
+        assertFalse(page.isLast());
+    }
+}
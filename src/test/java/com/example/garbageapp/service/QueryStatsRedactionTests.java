@@ -0,0 +1,55 @@
+package com.example.garbageapp.service;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The slow-query log must show how a command was built without the values it ran with.
+ */
+class QueryStatsRedactionTests {
+
+    @Test
+    void commandLiteralsAreRedacted() {
+        BsonDocument command = BsonDocument.parse("""
+                {"findAndModify": "users", "query": {"email": "jane@example.com", "roles": {"$in": ["ROLE_USER"]}},
+                 "update": {"$set": {"password": "$2a$10$hash", "phoneNumber": "0700000000"}},
+                 "sort": {"fullName": 1}, "new": true}""");
+
+        String redacted = QueryStatsCollector.redacted("findAndModify", command);
+
+        assertEquals(BsonDocument.parse("""
+                {"findAndModify": "users", "query": {"email": "?", "roles": {"$in": ["?"]}},
+                 "update": {"$set": {"password": "?", "phoneNumber": "?"}},
+                 "sort": {"fullName": 1}, "new": true}"""), BsonDocument.parse(redacted));
+    }
+
+    @Test
+    void pipelineKeepsFieldPathsOnly() {
+        BsonDocument command = BsonDocument.parse("""
+                {"aggregate": "special_requests", "pipeline": [
+                  {"$match": {"userId": "u-1"}}, {"$group": {"_id": "$status", "count": {"$sum": 1}}}],
+                 "cursor": {}}""");
+
+        assertEquals(BsonDocument.parse("""
+                {"aggregate": "special_requests", "pipeline": [
+                  {"$match": {"userId": "?"}}, {"$group": {"_id": "$status", "count": {"$sum": "?"}}}],
+                 "cursor": {}}"""), BsonDocument.parse(QueryStatsCollector.redacted("aggregate", command)));
+    }
+
+    @Test
+    void planValuesAreRedacted() {
+        BsonDocument plan = BsonDocument.parse("""
+                {"queryPlanner": {"namespace": "db.users", "parsedQuery": {"email": {"$eq": "jane@example.com"}},
+                  "winningPlan": {"stage": "FETCH", "inputStage": {"stage": "IXSCAN", "indexName": "email_1",
+                    "indexBounds": {"email": ["[\\"jane@example.com\\", \\"jane@example.com\\"]"]}}}}}""");
+
+        QueryStatsCollector.redactPlan(plan);
+
+        assertFalse(plan.toJson().contains("jane@example.com"));
+        assertEquals("IXSCAN", plan.getDocument("queryPlanner").getDocument("winningPlan")
+                .getDocument("inputStage").getString("stage").getValue());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.controller.ScheduleController;
+import com.example.garbageapp.dto.ApiResponse;
+import com.example.garbageapp.dto.BulkImportResultDTO;
+import com.example.garbageapp.model.Area;
+import com.example.garbageapp.model.Schedule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteResult;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A body that breaks off mid-stream still reports the items that were read and written before it, and an
+ * area that disappears during an import rejects only its own rows.
+ */
+class ScheduleImportTests {
+
+    private static final String ITEM = "{\"areaId\": \"area-1\", \"pickupDate\": \"2099-01-01T10:00:00\", \"type\": \"REGULAR\"}";
+
+    private ScheduleImportService scheduleImportService;
+
+    @BeforeEach
+    void setUp() {
+        Area area = new Area();
+        area.setId("area-1");
+        area.setName("North");
+        area.setZone("Zone A");
+        AreaRegistry areaRegistry = mock(AreaRegistry.class);
+        when(areaRegistry.findById("area-1")).thenReturn(Optional.of(area));
+        when(areaRegistry.findById("deleted-area")).thenReturn(Optional.empty());
+
+        BulkWriteResult written = mock(BulkWriteResult.class);
+        BulkOperations bulk = mock(BulkOperations.class);
+        when(bulk.insert(anyList())).thenAnswer(invocation -> {
+            when(written.getInsertedCount()).thenReturn(invocation.getArgument(0, List.class).size());
+            return bulk;
+        });
+        when(bulk.execute()).thenReturn(written);
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Schedule.class)).thenReturn(bulk);
+
+        scheduleImportService = new ScheduleImportService(mongoTemplate, areaRegistry,
+                new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator(), 1000);
+    }
+
+    @Test
+    void malformedBodyReturnsResultsSoFarWithParseError() throws Exception {
+        BulkImportResultDTO result = importJson("[" + ITEM + ", " + ITEM + ", {\"areaId\": ");
+
+        assertEquals(2, result.getTotal());
+        assertEquals(2, result.getCreated());
+        assertTrue(result.getResults().stream().allMatch(item -> item.isSuccess() && item.getId() != null));
+        assertNotNull(result.getError());
+        assertTrue(result.getError().startsWith("Malformed JSON after item 2"));
+    }
+
+    @Test
+    void wellFormedBodyHasNoError() throws Exception {
+        BulkImportResultDTO result = importJson("[" + ITEM + ", " + ITEM + "]");
+
+        assertEquals(2, result.getCreated());
+        assertNull(result.getError());
+    }
+
+    @Test
+    void itemForDeletedAreaIsRejectedAlone() throws Exception {
+        BulkImportResultDTO result = importJson("[" + ITEM + ", " + ITEM.replace("area-1", "deleted-area") + "]");
+
+        assertEquals(2, result.getTotal());
+        assertEquals(1, result.getCreated());
+        assertFalse(result.getResults().get(1).isSuccess());
+        assertEquals("Area not found with id: deleted-area", result.getResults().get(1).getError());
+    }
+
+    @Test
+    void unterminatedCsvQuoteStopsTheImport() throws Exception {
+        String csv = "areaId,pickupDate,type,notes\n"
+                + "area-1,2099-01-01T10:00:00,REGULAR,ok\n"
+                + "area-1,2099-01-02T10:00:00,REGULAR,\"never closed\n";
+
+        BulkImportResultDTO result = scheduleImportService.importCsv(stream(csv));
+
+        assertEquals(1, result.getCreated());
+        assertTrue(result.getError().startsWith("Malformed CSV after row 1"));
+    }
+
+    @Test
+    void truncatedImportIsABadRequestThatStillCarriesTheResults() throws Exception {
+        ScheduleController controller = new ScheduleController(mock(ScheduleService.class), scheduleImportService);
+
+        ResponseEntity<ApiResponse<BulkImportResultDTO>> response =
+                controller.importSchedulesJson(stream("[" + ITEM + ", {"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertFalse(response.getBody().isSuccess());
+        assertEquals(1, response.getBody().getData().getCreated());
+    }
+
+    private BulkImportResultDTO importJson(String body) throws Exception {
+        return scheduleImportService.importJson(stream(body));
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.garbageapp.service;
+
+import com.example.garbageapp.dto.BulkStatusUpdateDTO;
+import com.example.garbageapp.dto.BulkStatusUpdateResultDTO;
+import com.example.garbageapp.dto.RequestFilterDTO;
+import com.example.garbageapp.exception.BadRequestException;
+import com.example.garbageapp.model.SpecialRequest;
+import com.example.garbageapp.repository.SpecialRequestRepository;
+import com.example.garbageapp.repository.UserRepository;
+import com.example.garbageapp.security.CurrentUserProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A bulk status change selected by filter must never widen to every pending request.
+ */
+class SpecialRequestBulkStatusTests {
+
+    private SpecialRequestRepository specialRequestRepository;
+    private SpecialRequestService specialRequestService;
+
+    @BeforeEach
+    void setUp() {
+        specialRequestRepository = mock(SpecialRequestRepository.class);
+        CurrentUserProvider currentUserProvider = mock(CurrentUserProvider.class);
+        when(currentUserProvider.isCurrentUserAdmin()).thenReturn(true);
+        specialRequestService = new SpecialRequestService(specialRequestRepository, mock(UserRepository.class),
+                mock(AreaRegistry.class), mock(DashboardCounterService.class), currentUserProvider,
+                mock(PageTotals.class), mock(RecordExporter.class));
+    }
+
+    @Test
+    void emptyFilterIsRejected() {
+        BulkStatusUpdateDTO bulkUpdate = approve(new RequestFilterDTO());
+        bulkUpdate.setIds(List.of());
+
+        assertThrows(BadRequestException.class, () -> specialRequestService.updateRequestStatuses(bulkUpdate));
+        verify(specialRequestRepository, never()).updatePendingStatus(any(RequestFilterDTO.class), any(), any());
+    }
+
+    @Test
+    void statusOnlyFilterIsRejected() {
+        RequestFilterDTO filter = new RequestFilterDTO();
+        filter.setStatus(SpecialRequest.RequestStatus.PENDING);
+
+        assertThrows(BadRequestException.class, () -> specialRequestService.updateRequestStatuses(approve(filter)));
+        verify(specialRequestRepository, never()).updatePendingStatus(any(RequestFilterDTO.class), any(), any());
+    }
+
+    @Test
+    void narrowedFilterIsApplied() {
+        RequestFilterDTO filter = new RequestFilterDTO();
+        filter.setAreaId("area-1");
+        when(specialRequestRepository.countFiltered(filter)).thenReturn(5L);
+        when(specialRequestRepository.updatePendingStatus(eq(filter), eq(SpecialRequest.RequestStatus.APPROVED), any()))
+                .thenReturn(3L);
+
+        BulkStatusUpdateResultDTO result = specialRequestService.updateRequestStatuses(approve(filter));
+
+        assertEquals(3, result.getUpdated());
+        assertEquals(2, result.getSkipped());
+    }
+
+    private BulkStatusUpdateDTO approve(RequestFilterDTO filter) {
+        BulkStatusUpdateDTO bulkUpdate = new BulkStatusUpdateDTO();
+        bulkUpdate.setFilter(filter);
+        bulkUpdate.setStatus(SpecialRequest.RequestStatus.APPROVED);
+        return bulkUpdate;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.garbageapp.support;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.ServerAddress;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Points Mongo-backed tests at a real mongod when one is reachable and at an in-memory emulator otherwise.
+ * The real mongod is the one configured through {@code SPRING_DATA_MONGODB_URI} (or
+ * {@code -Dspring.data.mongodb.uri}), falling back to localhost:27017. The emulator speaks the wire protocol
+ * but does not implement explain, so tests that assert query plans still need a real mongod.
+ */
+public final class MongoTestServer {
+
+    private static final String DEFAULT_URI = "mongodb://localhost:27017/garbage_collection_db";
+
+    private static MongoServer server;
+    private static String uri;
+
+    private MongoTestServer() {
+    }
+
+    public static String configuredUri() {
+        String configured = System.getProperty("spring.data.mongodb.uri", System.getenv("SPRING_DATA_MONGODB_URI"));
+        return configured == null || configured.isBlank() ? DEFAULT_URI : configured;
+    }
+
+    // Only probes the first host of the configured URI; a replica set is reachable if its first member is
+    public static boolean mongodAvailable() {
+        ServerAddress address = new ServerAddress(new ConnectionString(configuredUri()).getHosts().get(0));
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(address.getHost(), address.getPort()), 500);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        if (mongodAvailable()) {
+            registry.add("spring.data.mongodb.uri", MongoTestServer::configuredUri);
+        } else {
+            registry.add("spring.data.mongodb.uri", MongoTestServer::emulatorUri);
+        }
+    }
+
+    private static synchronized String emulatorUri() {
+        if (server == null) {
+            server = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = server.bind();
+            uri = "mongodb://" + address.getHostString() + ":" + address.getPort() + "/garbage_collection_db_test";
+            Runtime.getRuntime().addShutdownHook(new Thread(server::shutdownNow));
+        }
+        return uri;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.garbageapp.support;
+
+import com.example.garbageapp.service.DbQueryCounter;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards against N+1 regressions by bounding the Mongo commands an action issues, e.g.
+ * {@code assertMaxQueries(3, () -> mockMvc.perform(get("/dashboard/user/stats")))}.
+ * Only commands issued on the calling thread are counted, which covers MockMvc and direct service calls.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void assertMaxQueries(int max, Executable action) throws Throwable {
+        int count = countQueries(action);
+        assertTrue(count <= max, () -> "Expected at most " + max + " database commands but " + count + " were issued");
+    }
+
+    public static int countQueries(Executable action) throws Throwable {
+        try (DbQueryCounter.Scope scope = DbQueryCounter.open()) {
+            action.execute();
+            return scope.getCount();
+        }
+    }
+}